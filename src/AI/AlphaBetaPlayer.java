@@ -0,0 +1,278 @@
+package AI;
+
+import Controller.Controller;
+import Controller.MoveBatch;
+import Controller.UndoRecord;
+import Model.BitBoard;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Deterministic negamax search with alpha‑beta pruning.
+ *
+ * <h6>Turn order</h6>
+ * Scores are always from the side to move. A capture keeps the turn, so
+ * after a capturing move the child is searched with the same window and
+ * its score is taken as is; only a change of player negates the score and
+ * swaps the window. A player without valid moves has one move,
+ * {@link Controller#PASS}. When neither player can move the position is
+ * scored statically. Every ply, passes and same‑side plies included, costs
+ * one unit of depth.
+ *
+ * <p>Moves are tried with {@link Controller#makeMove(int, UndoRecord)} and
+ * taken back with {@link Controller#unmakeMove(UndoRecord)} on a single
+ * private copy of the game, one reusable undo record per ply.</p>
+ *
+ * <h6>Search</h6>
+ * Iterative deepening to a maximum depth and/or per‑move time budget; the
+ * result of the deepest completed iteration is played. Moves are ordered
+ * transposition table move first, then captures (largest first), then by
+ * history heuristic. The fixed‑size {@link TranspositionTable} is keyed by
+ * the position's Zobrist hash ({@link Controller#getHash()}); it is shared
+ * by the iterations of one search and emptied before the next.
+ *
+ * <p>With no time budget the search is fully reproducible: the same
+ * position and depth always give the same move and score, whatever the
+ * player searched before.</p>
+ */
+public class AlphaBetaPlayer implements MovePolicy {
+    /** Score of a won position, less the plies needed to reach it. */
+    public static final int WIN = 1_000_000;
+    private static final int INFINITY = WIN + 1;
+    private static final int MAX_PLY = 64;
+    private static final int CELL_VALUE = 100;
+
+    private final int maxDepth;
+    private final long millis;
+    private final int tableBits;
+
+    // Per-search state
+    private TranspositionTable table;
+    private Controller game;
+    private UndoRecord[] undo;
+    private int[][] moveLists;
+    private int[][] orderKeys;
+    private final MoveBatch batch = new MoveBatch();
+    private int[] history;
+    private long nodes;
+    private int rootMove;
+    private long deadline;
+    private boolean stopped;
+
+    /**
+     * @param maxDepth  deepest iteration, in plies.
+     * @param millis    time per move in milliseconds, or 0 to always reach {@code maxDepth}.
+     * @param tableBits log2 of the transposition table entries.
+     */
+    public AlphaBetaPlayer(int maxDepth, long millis, int tableBits) {
+        if (maxDepth < 1 || maxDepth > MAX_PLY) {
+            throw new IllegalArgumentException("Depth must be between 1 and " + MAX_PLY + ", got " + maxDepth);
+        }
+        this.maxDepth = maxDepth;
+        this.millis = millis;
+        this.tableBits = tableBits;
+    }
+
+    public AlphaBetaPlayer(int maxDepth, long millis) {
+        this(maxDepth, millis, 20);
+    }
+
+    @Override
+    public int chooseMove(Controller game, Random rnd) {
+        return search(game).move;
+    }
+
+    /**
+     * Searches the position of {@code game}, which is not modified.
+     * {@link SearchResult#value} is the score of the chosen move for the
+     * side to move, in {@link #CELL_VALUE} units per cell of material, or
+     * near ±{@link #WIN} for a forced result.
+     */
+    public SearchResult search(Controller game) {
+        SearchEvent event = new SearchEvent();
+        event.begin();
+        long start = System.nanoTime();
+        deadline = millis > 0 ? start + millis * 1_000_000L : Long.MAX_VALUE;
+        stopped = false;
+        nodes = 0;
+        prepare(game);
+
+        int bestMove = Controller.PASS;
+        int bestScore = 0;
+        int completed = 0;
+        for (int depth = 1; depth <= maxDepth; depth++) {
+            rootMove = Controller.PASS;
+            int score = negamax(0, depth, -INFINITY, INFINITY);
+            if (stopped) break;
+            bestMove = rootMove;
+            bestScore = score;
+            completed = depth;
+            if (Math.abs(score) >= WIN - MAX_PLY) break; // forced result found
+        }
+        if (completed == 0) {
+            bestMove = firstMove(game); // out of time before depth 1 finished
+        }
+        return SearchEvent.commit(event, this, game,
+                new SearchResult(bestMove, bestScore, nodes, System.nanoTime() - start, completed));
+    }
+
+    private void prepare(Controller game) {
+        int cells = game.getBoard().cellCount();
+        if (table == null) {
+            table = new TranspositionTable(tableBits);
+        }
+        table.newSearch();
+        if (this.game == null || this.game.getBoard().cellCount() != cells) {
+            this.game = game.copy();
+            undo = new UndoRecord[MAX_PLY];
+            moveLists = new int[MAX_PLY + 1][cells];
+            orderKeys = new int[MAX_PLY + 1][cells];
+            history = new int[cells];
+            for (int ply = 0; ply < MAX_PLY; ply++) {
+                undo[ply] = new UndoRecord();
+            }
+        }
+        this.game.copyFrom(game);
+        Arrays.fill(history, 0);
+    }
+
+    private int negamax(int ply, int depth, int alpha, int beta) {
+        Controller position = game;
+        if ((++nodes & 1023) == 0 && System.nanoTime() > deadline) {
+            stopped = true;
+        }
+        if (stopped) return 0;
+        if (position.getGameOver()) {
+            return WIN - ply; // the winner is left to move
+        }
+        int player = BitBoard.playerIndex(position.getCurrentPlayer());
+        if (depth == 0 || ply == MAX_PLY) {
+            return evaluate(position, player);
+        }
+
+        long key = position.getHash();
+        int ttMove = Integer.MIN_VALUE;
+        int slot = table.probe(key);
+        if (slot >= 0) {
+            ttMove = table.move(slot);
+            if (ply > 0 && table.depth(slot) >= depth) {
+                int score = fromTable(table.score(slot), ply);
+                int flag = table.flag(slot);
+                if (flag == TranspositionTable.EXACT) return score;
+                if (flag == TranspositionTable.LOWER) alpha = Math.max(alpha, score);
+                if (flag == TranspositionTable.UPPER) beta = Math.min(beta, score);
+                if (alpha >= beta) return score;
+            }
+        }
+        int originalAlpha = alpha; // the window searched, after any narrowing above
+
+        int[] moves = moveLists[ply];
+        int count;
+        if (position.hasValidMoves()) {
+            count = orderMoves(position, ply, ttMove);
+        } else if (position.getRules().hasValidMove(BitBoard.opponent(player))) {
+            moves[0] = Controller.PASS;
+            count = 1;
+        } else {
+            return evaluate(position, player); // nobody can move
+        }
+
+        int best = -INFINITY;
+        int bestMove = moves[0];
+        String mover = position.getCurrentPlayer();
+        for (int i = 0; i < count; i++) {
+            int move = moves[i];
+            position.makeMove(move, undo[ply]);
+            int score;
+            if (position.getCurrentPlayer().equals(mover)) {
+                score = negamax(ply + 1, depth - 1, alpha, beta); // capture: same side moves again
+            } else {
+                score = -negamax(ply + 1, depth - 1, -beta, -alpha);
+            }
+            position.unmakeMove(undo[ply]);
+            if (stopped) return 0;
+            if (score > best) {
+                best = score;
+                bestMove = move;
+                if (ply == 0) rootMove = move;
+            }
+            if (score > alpha) {
+                alpha = score;
+            }
+            if (alpha >= beta) {
+                if (move != Controller.PASS) {
+                    history[move] += depth * depth;
+                }
+                break;
+            }
+        }
+
+        int flag = best <= originalAlpha ? TranspositionTable.UPPER
+                : best >= beta ? TranspositionTable.LOWER : TranspositionTable.EXACT;
+        table.store(key, depth, flag, toTable(best, ply), bestMove);
+        return best;
+    }
+
+    /**
+     * Fills moveLists[ply] with the valid moves, table move first, then
+     * captures by size, then by history score.
+     */
+    private int orderMoves(Controller position, int ply, int ttMove) {
+        int[] moves = moveLists[ply];
+        int[] keys = orderKeys[ply];
+        int count = position.getValidMoveIds(moves);
+        position.checkMoves(moves, count, batch); // captures of every move in one pass
+        for (int i = 0; i < count; i++) {
+            int move = moves[i];
+            int captured = batch.getCapturedCount(i);
+            keys[i] = move == ttMove ? Integer.MAX_VALUE
+                    : captured > 0 ? (1 << 30) + captured : Math.min(history[move], (1 << 30) - 1);
+        }
+        // Insertion sort, stable, by descending key: keeps the order deterministic
+        for (int i = 1; i < count; i++) {
+            int move = moves[i], k = keys[i];
+            int j = i - 1;
+            while (j >= 0 && keys[j] < k) {
+                moves[j + 1] = moves[j];
+                keys[j + 1] = keys[j];
+                j--;
+            }
+            moves[j + 1] = move;
+            keys[j + 1] = k;
+        }
+        return count;
+    }
+
+    /** Material balance for {@code player}. */
+    private static int evaluate(Controller position, int player) {
+        BitBoard bits = position.getBoard().getBitBoard();
+        return CELL_VALUE * (bits.count(player) - bits.count(BitBoard.opponent(player)));
+    }
+
+    private static int firstMove(Controller game) {
+        if (!game.hasValidMoves()) return Controller.PASS;
+        int[] moves = new int[game.getBoard().cellCount()];
+        game.getValidMoveIds(moves);
+        return moves[0];
+    }
+
+    // Win scores are stored relative to the node so they stay valid at other plies
+    private static int toTable(int score, int ply) {
+        return score >= WIN - MAX_PLY ? score + ply : score <= -WIN + MAX_PLY ? score - ply : score;
+    }
+
+    private static int fromTable(int score, int ply) {
+        return score >= WIN - MAX_PLY ? score - ply : score <= -WIN + MAX_PLY ? score + ply : score;
+    }
+
+    @Override
+    public String name() {
+        return "alphabeta";
+    }
+
+    @Override
+    public MovePolicy copy() {
+        return new AlphaBetaPlayer(maxDepth, millis, tableBits);
+    }
+}
@@ -0,0 +1,51 @@
+package AI;
+
+import Archive.OpeningBook;
+import Controller.Controller;
+
+import java.util.OptionalInt;
+import java.util.Random;
+
+/**
+ * Plays from an {@link OpeningBook} while the position is in it, and hands
+ * over to another policy once it isn't. Searches then spend their budget
+ * on the middle game instead of re‑deriving the same openings every game.
+ *
+ * <p>Copies share the book, which is read‑only and memory‑mapped.</p>
+ */
+public class BookPlayer implements MovePolicy {
+    private final OpeningBook book;
+    private final int minGames;
+    private final MovePolicy fallback;
+
+    /**
+     * @param minGames book moves played in fewer games are ignored.
+     * @param fallback policy used out of book.
+     */
+    public BookPlayer(OpeningBook book, int minGames, MovePolicy fallback) {
+        this.book = book;
+        this.minGames = minGames;
+        this.fallback = fallback;
+    }
+
+    @Override
+    public int chooseMove(Controller game, Random rnd) {
+        OptionalInt move = book.bestMove(game, minGames);
+        return move.isPresent() ? move.getAsInt() : fallback.chooseMove(game, rnd);
+    }
+
+    @Override
+    public String name() {
+        return "book+" + fallback.name();
+    }
+
+    @Override
+    public MovePolicy copy() {
+        return new BookPlayer(book, minGames, fallback.copy());
+    }
+
+    @Override
+    public void newGame() {
+        fallback.newGame();
+    }
+}
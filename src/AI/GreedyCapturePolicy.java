@@ -0,0 +1,50 @@
+package AI;
+
+import Controller.Controller;
+import Controller.MoveBatch;
+
+import java.util.Random;
+
+/**
+ * Plays the valid move that captures the most opponent cells, breaking ties
+ * at random. With no capture available it plays a random valid move.
+ */
+public class GreedyCapturePolicy implements MovePolicy {
+    private int[] moves = new int[0];
+    private final MoveBatch batch = new MoveBatch();
+
+    @Override
+    public int chooseMove(Controller game, Random rnd) {
+        int cells = game.getBoard().cellCount();
+        if (moves.length < cells) {
+            moves = new int[cells];
+        }
+        int count = game.getValidMoveIds(moves);
+        game.checkMoves(moves, count, batch);
+
+        int best = 0;
+        int ties = 0;
+        int choice = moves[rnd.nextInt(count)];
+        for (int i = 0; i < count; i++) {
+            int captured = batch.getCapturedCount(i);
+            if (captured > best) {
+                best = captured;
+                ties = 1;
+                choice = moves[i];
+            } else if (captured == best && best > 0 && rnd.nextInt(++ties) == 0) {
+                choice = moves[i]; // reservoir sampling among equal captures
+            }
+        }
+        return choice;
+    }
+
+    @Override
+    public String name() {
+        return "greedy";
+    }
+
+    @Override
+    public MovePolicy copy() {
+        return new GreedyCapturePolicy();
+    }
+}
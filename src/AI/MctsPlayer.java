@@ -0,0 +1,297 @@
+package AI;
+
+import Controller.Controller;
+import Model.BitBoard;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Monte Carlo Tree Search player (UCT with uniformly random playouts).
+ *
+ * <h6>Rules</h6>
+ * Every tree edge is a call to {@link Controller#makeMove(int)} on a
+ * scratch game, passes included as {@code makeMove(PASS)}, so the search
+ * follows the real turn order: a capture keeps the turn, and a player
+ * without valid moves has exactly one move, {@link #PASS}. Each node records which player
+ * made the move into it, and statistics are always credited from that
+ * player's side rather than by alternating plies.
+ *
+ * <h6>Parallelism</h6>
+ * Root parallelism: each thread grows its own tree from a private copy of
+ * the position with its own seed, and the root visit counts are summed to
+ * pick the move. Trees share nothing while searching, so strength scales
+ * with cores without locking.
+ *
+ * <p>The budget is a number of playouts, a time limit, or both (whichever
+ * runs out first). With a playout budget and a fixed seed the chosen move
+ * is reproducible.</p>
+ */
+public class MctsPlayer implements MovePolicy {
+    /** Move id of a pass, same as {@link Controller#PASS}. */
+    public static final int PASS = Controller.PASS;
+    public static final double DEFAULT_EXPLORATION = Math.sqrt(2);
+    private static final int SAMPLE_ATTEMPTS = 8;
+
+    private final int threads;
+    private final long playouts;
+    private final long millis;
+    private final double exploration;
+
+    /**
+     * @param threads  search threads, one tree each.
+     * @param playouts total playouts per move over all threads, or 0 for no limit.
+     * @param millis   time per move in milliseconds, or 0 for no limit.
+     */
+    public MctsPlayer(int threads, long playouts, long millis, double exploration) {
+        if (threads < 1 || (playouts <= 0 && millis <= 0)) {
+            throw new IllegalArgumentException("MCTS needs at least one thread and a playout or time budget");
+        }
+        this.threads = threads;
+        this.playouts = playouts;
+        this.millis = millis;
+        this.exploration = exploration;
+    }
+
+    public MctsPlayer(int threads, long playouts, long millis) {
+        this(threads, playouts, millis, DEFAULT_EXPLORATION);
+    }
+
+    @Override
+    public int chooseMove(Controller game, Random rnd) {
+        return search(game, rnd.nextLong()).move;
+    }
+
+    /**
+     * Searches the position of {@code game}, which is not modified.
+     */
+    public SearchResult search(Controller game, long seed) {
+        SearchEvent event = new SearchEvent();
+        event.begin();
+        long start = System.nanoTime();
+        long deadline = millis > 0 ? start + millis * 1_000_000L : Long.MAX_VALUE;
+        long perThread = playouts > 0 ? (playouts + threads - 1) / threads : Long.MAX_VALUE;
+
+        List<Tree> trees = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            trees.add(new Tree(game.copy(), seed + t * 0x9E3779B97F4A7C15L));
+        }
+        if (threads == 1) {
+            trees.get(0).grow(perThread, deadline);
+        } else {
+            runParallel(trees, perThread, deadline);
+        }
+
+        // Sum the root statistics of every tree
+        Node first = trees.get(0).root;
+        int moves = first.moves.length;
+        long[] visits = new long[moves];
+        double[] wins = new double[moves];
+        long total = 0;
+        for (Tree tree : trees) {
+            total += tree.root.visits;
+            for (Node child : tree.root.children) {
+                visits[child.index] += child.visits;
+                wins[child.index] += child.wins;
+            }
+        }
+        int best = 0;
+        for (int i = 1; i < moves; i++) {
+            if (visits[i] > visits[best]) best = i;
+        }
+        double value = visits[best] == 0 ? 0.5 : wins[best] / visits[best];
+        return SearchEvent.commit(event, this, game,
+                new SearchResult(moves == 0 ? PASS : first.moves[best], value, total, System.nanoTime() - start));
+    }
+
+    /**
+     * Grows the trees on a pool created for this search and shut down
+     * before returning, so copies of the player hold no threads between
+     * moves.
+     */
+    private void runParallel(List<Tree> trees, long perThread, long deadline) {
+        ExecutorService pool = Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, "mcts");
+            t.setDaemon(true);
+            return t;
+        });
+        try {
+            List<Future<?>> running = new ArrayList<>();
+            for (Tree tree : trees) {
+                running.add(pool.submit(() -> tree.grow(perThread, deadline)));
+            }
+            for (Future<?> f : running) {
+                f.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("MCTS search interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("MCTS search failed", e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Override
+    public String name() {
+        return "mcts";
+    }
+
+    @Override
+    public MovePolicy copy() {
+        return new MctsPlayer(threads, playouts, millis, exploration);
+    }
+
+    /** One search tree with its own scratch game and random source. */
+    private final class Tree {
+        private final Controller position;
+        private final Controller scratch;
+        private final Random rnd;
+        private final Node root;
+        private final int maxPlayout;
+        private final int[] moveBuffer;
+        private final List<Node> path = new ArrayList<>();
+
+        Tree(Controller position, long seed) {
+            this.position = position;
+            this.scratch = position.copy();
+            this.rnd = new Random(seed);
+            int cells = position.getBoard().cellCount();
+            this.moveBuffer = new int[cells];
+            this.maxPlayout = 50 * cells;
+            this.root = newNode(BitBoard.NONE, PASS, 0, position);
+        }
+
+        void grow(long budget, long deadline) {
+            for (long n = 0; n < budget && System.nanoTime() < deadline; n++) {
+                iterate();
+            }
+        }
+
+        private void iterate() {
+            scratch.copyFrom(position);
+            path.clear();
+            Node node = root;
+            path.add(node);
+
+            // Selection
+            while (node.untried == 0 && !node.children.isEmpty()) {
+                node = select(node);
+                play(scratch, node.move);
+                path.add(node);
+            }
+            // Expansion
+            if (node.untried > 0) {
+                int pick = rnd.nextInt(node.untried);
+                int index = node.order[pick];
+                node.order[pick] = node.order[--node.untried];
+                int mover = player(scratch);
+                play(scratch, node.moves[index]);
+                Node child = newNode(mover, node.moves[index], index, scratch);
+                node.children.add(child);
+                node = child;
+                path.add(node);
+            }
+            // Simulation
+            int winner = playout(scratch);
+            // Backpropagation, credited to whoever moved into each node
+            for (Node n : path) {
+                n.visits++;
+                if (winner == BitBoard.NONE) {
+                    n.wins += 0.5;
+                } else if (n.mover == winner) {
+                    n.wins += 1;
+                }
+            }
+        }
+
+        private Node select(Node node) {
+            double logParent = Math.log(node.visits);
+            Node best = null;
+            double bestScore = Double.NEGATIVE_INFINITY;
+            for (Node child : node.children) {
+                double score = child.wins / child.visits + exploration * Math.sqrt(logParent / child.visits);
+                if (score > bestScore) {
+                    bestScore = score;
+                    best = child;
+                }
+            }
+            return best;
+        }
+
+        /** Random moves until the game ends; NONE if it runs past the ply limit. */
+        private int playout(Controller game) {
+            for (int ply = 0; ply < maxPlayout && !game.getGameOver(); ply++) {
+                game.makeMove(game.hasValidMoves() ? randomMove(game) : PASS);
+            }
+            return game.getGameOver() ? player(game) : BitBoard.NONE;
+        }
+
+        /**
+         * Uniformly random valid move. Random cells are tried first, since
+         * checking one cell is far cheaper than listing every valid move;
+         * a uniform cell that passes the check is a uniform valid move.
+         */
+        private int randomMove(Controller game) {
+            int cells = moveBuffer.length;
+            for (int attempt = 0; attempt < SAMPLE_ATTEMPTS; attempt++) {
+                int cell = rnd.nextInt(cells);
+                if (game.isValidMove(cell)) return cell;
+            }
+            int count = game.getValidMoveIds(moveBuffer);
+            return moveBuffer[rnd.nextInt(count)];
+        }
+
+        private Node newNode(int mover, int move, int index, Controller game) {
+            int[] moves;
+            if (game.getGameOver()) {
+                moves = new int[0];
+            } else if (!game.hasValidMoves()) {
+                moves = new int[]{PASS};
+            } else {
+                int count = game.getValidMoveIds(moveBuffer);
+                moves = Arrays.copyOf(moveBuffer, count);
+            }
+            return new Node(mover, move, index, moves);
+        }
+    }
+
+    private static void play(Controller game, int move) {
+        game.makeMove(move);
+    }
+
+    private static int player(Controller game) {
+        return BitBoard.playerIndex(game.getCurrentPlayer());
+    }
+
+    private static final class Node {
+        final int mover;   // player who made the move into this node
+        final int move;
+        final int index;   // position of move in the parent's moves[]
+        final int[] moves; // moves available here; empty once the game is over
+        final int[] order; // untried moves are order[0..untried)
+        int untried;
+        final List<Node> children = new ArrayList<>();
+        long visits;
+        double wins;
+
+        Node(int mover, int move, int index, int[] moves) {
+            this.mover = mover;
+            this.move = move;
+            this.index = index;
+            this.moves = moves;
+            this.order = new int[moves.length];
+            for (int i = 0; i < moves.length; i++) {
+                order[i] = i;
+            }
+            this.untried = moves.length;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package AI;
+
+import Controller.Controller;
+
+import java.util.Random;
+
+/**
+ * Chooses a move for the current player of a game.
+ *
+ * <p>Policies are called only when the current player has at least one
+ * valid move; passing is left to the caller, as in
+ * {@link Controller#handleMove}. A policy may keep per‑game scratch state,
+ * so each thread should use its own instance (see {@link #copy()}), and
+ * that state is reset by {@link #newGame()}.</p>
+ */
+public interface MovePolicy {
+    /**
+     * @param game the game to move in; must not be modified.
+     * @param rnd  source of randomness, seeded by the caller for reproducible games.
+     * @return the cell id of a valid move for the current player.
+     */
+    int chooseMove(Controller game, Random rnd);
+
+    /** Short name used on the command line and in reports. */
+    String name();
+
+    /** A fresh instance with the same settings, for use on another thread. */
+    MovePolicy copy();
+
+    /**
+     * Called before each game. A policy that keeps state from move to move
+     * forgets it here, so its moves in a game never depend on the games it
+     * played before.
+     */
+    default void newGame() {
+    }
+
+    /**
+     * Looks up a policy by name: {@code random}, {@code greedy},
+     * {@code mcts} (single‑threaded, 1000 playouts per move, so it can run
+     * inside a multithreaded self‑play batch) or {@code alphabeta} (fixed
+     * depth 3).
+     * @throws IllegalArgumentException for an unknown name.
+     */
+    static MovePolicy named(String name) {
+        switch (name) {
+            case "random": return new RandomPolicy();
+            case "greedy": return new GreedyCapturePolicy();
+            case "mcts": return new MctsPlayer(1, 1000, 0);
+            case "alphabeta": return new AlphaBetaPlayer(3, 0);
+            default: throw new IllegalArgumentException("Unknown policy -> " + name);
+        }
+    }
+}
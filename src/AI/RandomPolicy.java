@@ -0,0 +1,32 @@
+package AI;
+
+import Controller.Controller;
+
+import java.util.Random;
+
+/**
+ * Plays a uniformly random valid move.
+ */
+public class RandomPolicy implements MovePolicy {
+    private int[] moves = new int[0];
+
+    @Override
+    public int chooseMove(Controller game, Random rnd) {
+        int cells = game.getBoard().cellCount();
+        if (moves.length < cells) {
+            moves = new int[cells];
+        }
+        int count = game.getValidMoveIds(moves);
+        return moves[rnd.nextInt(count)];
+    }
+
+    @Override
+    public String name() {
+        return "random";
+    }
+
+    @Override
+    public MovePolicy copy() {
+        return new RandomPolicy();
+    }
+}
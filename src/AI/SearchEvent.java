@@ -0,0 +1,66 @@
+package AI;
+
+import Controller.Controller;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for one move search of {@link AlphaBetaPlayer} or
+ * {@link MctsPlayer}, timed over the whole search.
+ */
+@Name("hexoust.Search")
+@Label("Search")
+@Category({"HexOust", "AI"})
+@Description("A move search by an AI player")
+@StackTrace(false)
+final class SearchEvent extends Event {
+    @Label("Policy")
+    String policy;
+
+    @Label("Player")
+    @Description("Player the search is for")
+    String player;
+
+    @Label("Cell")
+    @Description("Chosen cell id, -1 for a pass")
+    int cell;
+
+    @Label("Captured")
+    @Description("Opponent cells the chosen move captures")
+    int captured;
+
+    @Label("Value")
+    @Description("Search score or expected result of the chosen move")
+    double value;
+
+    @Label("Work")
+    @Description("Nodes or playouts searched")
+    long work;
+
+    @Label("Depth")
+    @Description("Deepest completed iteration, 0 for searches without one")
+    int depth;
+
+    /**
+     * Commits {@code event}, begun when the search started, with what the
+     * search of {@code game} by {@code policy} found.
+     * @return {@code result}.
+     */
+    static SearchResult commit(SearchEvent event, MovePolicy policy, Controller game, SearchResult result) {
+        if (event.shouldCommit()) {
+            event.policy = policy.name();
+            event.player = game.getCurrentPlayer();
+            event.cell = result.move;
+            event.captured = result.move == Controller.PASS ? 0 : Math.max(0, game.checkMoves(result.move).getCapturedCount(0));
+            event.value = result.value;
+            event.work = result.work;
+            event.depth = result.depth;
+            event.commit();
+        }
+        return result;
+    }
+}
@@ -0,0 +1,38 @@
+package AI;
+
+/**
+ * What a search found for the player to move.
+ */
+public final class SearchResult {
+    /** Cell id of the chosen move, or {@link MctsPlayer#PASS}. */
+    public final int move;
+    /**
+     * Value of the move for the player to move: the expected result from
+     * 0 (loss) to 1 (win) for {@link MctsPlayer}, the search score for
+     * {@link AlphaBetaPlayer}.
+     */
+    public final double value;
+    /** Playouts or nodes searched. */
+    public final long work;
+    public final long nanos;
+    /** Deepest completed iteration, 0 for searches without one. */
+    public final int depth;
+
+    public SearchResult(int move, double value, long work, long nanos, int depth) {
+        this.move = move;
+        this.value = value;
+        this.work = work;
+        this.nanos = nanos;
+        this.depth = depth;
+    }
+
+    public SearchResult(int move, double value, long work, long nanos) {
+        this(move, value, work, nanos, 0);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("SearchResult[move:%d, value:%.3f, work:%d, ms:%.1f, depth:%d]",
+                move, value, work, nanos / 1e6, depth);
+    }
+}
@@ -0,0 +1,86 @@
+package AI;
+
+import java.util.Arrays;
+
+/**
+ * Fixed‑size transposition table for {@link AlphaBetaPlayer}.
+ *
+ * <p>Entries live in parallel primitive arrays indexed by the low bits of
+ * the position key; the full key is kept to reject collisions. A new entry
+ * replaces the old one in its slot unless the old one is from the current
+ * search and was searched deeper.</p>
+ *
+ * <p>Each search starts from an empty table, so a search never depends on
+ * the ones before it. Emptying is done in constant time: every entry is
+ * stamped with the search it was stored in, and entries of earlier searches
+ * are not found.</p>
+ */
+final class TranspositionTable {
+    static final int EXACT = 0;
+    static final int LOWER = 1; // score is a lower bound (fail high)
+    static final int UPPER = 2; // score is an upper bound (fail low)
+
+    private final int mask;
+    private final long[] keys;
+    private final int[] scores;
+    private final int[] moves;
+    private final byte[] depths;
+    private final byte[] flags;
+    private final int[] ages;
+    private int age = 1;
+
+    /** @param bits log2 of the number of entries. */
+    TranspositionTable(int bits) {
+        int size = 1 << bits;
+        this.mask = size - 1;
+        this.keys = new long[size];
+        this.scores = new int[size];
+        this.moves = new int[size];
+        this.depths = new byte[size];
+        this.flags = new byte[size];
+        this.ages = new int[size];
+    }
+
+    /** Starts a new search on an empty table. */
+    void newSearch() {
+        if (++age == 0) { // wrapped: stamps of old entries could match again
+            Arrays.fill(depths, (byte) 0);
+            age = 1;
+        }
+    }
+
+    /** @return the slot holding {@code key}, or -1. */
+    int probe(long key) {
+        int slot = (int) key & mask;
+        return keys[slot] == key && ages[slot] == age && depths[slot] > 0 ? slot : -1;
+    }
+
+    int score(int slot) {
+        return scores[slot];
+    }
+
+    int move(int slot) {
+        return moves[slot];
+    }
+
+    int depth(int slot) {
+        return depths[slot] - 1;
+    }
+
+    int flag(int slot) {
+        return flags[slot];
+    }
+
+    void store(long key, int depth, int flag, int score, int move) {
+        int slot = (int) key & mask;
+        if (keys[slot] != key && ages[slot] == age && depths[slot] > depth) {
+            return; // keep the deeper entry of this search
+        }
+        keys[slot] = key;
+        depths[slot] = (byte) Math.min(depth + 1, Byte.MAX_VALUE); // 0 marks an empty slot
+        flags[slot] = (byte) flag;
+        scores[slot] = score;
+        moves[slot] = move;
+        ages[slot] = age;
+    }
+}
@@ -0,0 +1,165 @@
+package Archive;
+
+import Controller.Controller;
+import Model.BitBoard;
+import Model.Symmetry;
+import Model.Zobrist;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds an {@link OpeningBook} from game archives.
+ *
+ * <p>Every finished game of the archives is replayed for its first
+ * {@code plies} plies. Each move is counted against the canonical form of
+ * the position it was played from (the same key {@link OpeningBook} looks
+ * up), together with whether the player who made it went on to win.
+ * Unfinished games and passes are skipped. Moves seen in fewer than
+ * {@code minGames} games are dropped, then the records are sorted and
+ * written out.</p>
+ *
+ * <p>Run: {@code java -cp out Archive.BookBuilder --out book.hxob
+ * [--plies N] [--min-games N] archive...}</p>
+ */
+public final class BookBuilder {
+    private final int boardSize;
+    private final int plies;
+    private final Symmetry symmetry;
+    private final Controller game;
+    private final Controller empty;
+    private final Map<Key, int[]> counts = new HashMap<>(); // {games, wins}
+
+    /**
+     * @param plies how many plies of each game to add to the book.
+     */
+    public BookBuilder(int boardSize, int plies) {
+        this.boardSize = boardSize;
+        this.plies = plies;
+        this.game = new Controller(boardSize);
+        this.empty = new Controller(boardSize);
+        this.symmetry = new Symmetry(game.getBoard());
+    }
+
+    /**
+     * Adds the opening of one game.
+     * @param moves  the game's plies, as stored by {@link GameWriter}.
+     * @param winner the game's winner; unfinished games ({@link BitBoard#NONE}) are ignored.
+     */
+    public void addGame(int[] moves, int count, int winner) {
+        if (winner == BitBoard.NONE) return;
+        game.copyFrom(empty);
+        for (int i = 0; i < Math.min(count, plies); i++) {
+            int move = moves[i];
+            if (move != Controller.PASS) {
+                BitBoard bits = game.getBoard().getBitBoard();
+                int mover = BitBoard.playerIndex(game.getCurrentPlayer());
+                int sym = symmetry.canonical(bits);
+                long key = symmetry.hash(sym, bits);
+                if (mover == BitBoard.BLUE) key ^= Zobrist.BLUE_TO_MOVE;
+
+                int[] c = counts.computeIfAbsent(new Key(key, symmetry.canonicalMove(bits, move)), k -> new int[2]);
+                c[0]++;
+                if (mover == winner) c[1]++;
+            }
+            game.makeMove(move);
+        }
+    }
+
+    /** Adds the opening of every game in {@code archive}. */
+    public void addArchive(GameReader archive) {
+        if (archive.getBoardSize() != boardSize) {
+            throw new IllegalArgumentException("Archive board size differs -> " + archive.getBoardSize());
+        }
+        archive.scan((index, moves, count, winner) -> addGame(moves, count, winner));
+    }
+
+    /**
+     * Writes the moves seen in at least {@code minGames} games.
+     * @return the number of records written.
+     */
+    public int write(Path path, int minGames) throws IOException {
+        List<Map.Entry<Key, int[]>> kept = new ArrayList<>();
+        for (Map.Entry<Key, int[]> e : counts.entrySet()) {
+            if (e.getValue()[0] >= minGames) kept.add(e);
+        }
+        kept.sort((a, b) -> a.getKey().hash != b.getKey().hash
+                ? Long.compare(a.getKey().hash, b.getKey().hash)
+                : Integer.compare(a.getKey().move, b.getKey().move));
+
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path), 1 << 16))) {
+            out.writeInt(OpeningBook.MAGIC);
+            out.writeByte(OpeningBook.FORMAT_VERSION);
+            out.writeByte(GameWriter.RULES_VERSION);
+            out.writeShort(boardSize);
+            out.writeLong(kept.size());
+            for (Map.Entry<Key, int[]> e : kept) {
+                out.writeLong(e.getKey().hash);
+                out.writeInt(e.getKey().move);
+                out.writeInt(e.getValue()[0]);
+                out.writeInt(e.getValue()[1]);
+            }
+        }
+        return kept.size();
+    }
+
+    /** A canonical position hash and a move in the canonical orientation. */
+    private static final class Key {
+        final long hash;
+        final int move;
+
+        Key(long hash, int move) {
+            this.hash = hash;
+            this.move = move;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Key && ((Key) o).hash == hash && ((Key) o).move == move;
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(hash) * 31 + move;
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        int plies = 12;
+        int minGames = 2;
+        String out = null;
+        List<Path> archives = new ArrayList<>();
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--plies": plies = Integer.parseInt(args[++i]); break;
+                case "--min-games": minGames = Integer.parseInt(args[++i]); break;
+                case "--out": out = args[++i]; break;
+                default: archives.add(Paths.get(args[i]));
+            }
+        }
+        if (out == null || archives.isEmpty()) {
+            System.out.println("Usage: java -cp out Archive.BookBuilder --out book.hxob [--plies N] [--min-games N] archive...");
+            return;
+        }
+        long start = System.nanoTime();
+        BookBuilder builder = null;
+        long games = 0;
+        for (Path path : archives) {
+            try (GameReader reader = new GameReader(path)) {
+                if (builder == null) builder = new BookBuilder(reader.getBoardSize(), plies);
+                builder.addArchive(reader);
+                games += reader.gameCount();
+            }
+        }
+        int records = builder.write(Paths.get(out), minGames);
+        System.out.printf("%d games, %d records written in %.1f s%n", games, records, (System.nanoTime() - start) / 1e9);
+    }
+}
@@ -0,0 +1,257 @@
+package Archive;
+
+import Controller.Controller;
+import Model.BitBoard;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Memory‑mapped reader of an archive written by {@link GameWriter}.
+ *
+ * <p>The file is mapped read‑only in windows of 1 GB (a single
+ * {@link MappedByteBuffer} can't exceed 2 GB), so archives of any size are
+ * read straight from the page cache without copying them onto the heap.
+ * Games are found through the index for random access, or read back to back
+ * by {@link #scan(GameVisitor)}, which touches the file strictly in order.</p>
+ *
+ * <p>A reader may be shared by several threads; reads don't move any
+ * shared cursor.</p>
+ *
+ * <p>Run: {@code java -cp out Archive.GameReader file [--replay]} prints the
+ * header and scan throughput; {@code --replay} also replays every game
+ * through a {@link Controller}, checking each ply against the rules.</p>
+ */
+public final class GameReader implements Closeable {
+    private static final int DEFAULT_WINDOW_SHIFT = 30; // 1 GB
+
+    private final FileChannel channel;
+    private final MappedByteBuffer[] windows;
+    private final int windowShift;
+    private final long windowMask;
+    private final int boardSize;
+    private final int rulesVersion;
+    private final long index;
+    private final long games;
+
+    /**
+     * Receives the games of {@link #scan(GameVisitor)}. The ply array is
+     * reused between games.
+     */
+    public interface GameVisitor {
+        void visit(long game, int[] plies, int count, int winner);
+    }
+
+    public GameReader(Path path) throws IOException {
+        this(path, DEFAULT_WINDOW_SHIFT);
+    }
+
+    /**
+     * @param windowShift log2 of the mapping window size, at most 30;
+     *                    smaller windows only matter for testing.
+     */
+    public GameReader(Path path, int windowShift) throws IOException {
+        if (windowShift < 4 || windowShift > 30) {
+            throw new IllegalArgumentException("Invalid window shift -> " + windowShift);
+        }
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            long length = channel.size();
+            this.windowShift = windowShift;
+            this.windowMask = (1L << windowShift) - 1;
+            this.windows = new MappedByteBuffer[(int) ((length + windowMask) >>> windowShift)];
+            for (int w = 0; w < windows.length; w++) {
+                long start = (long) w << windowShift;
+                windows[w] = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(1L << windowShift, length - start));
+            }
+            if (length < GameWriter.HEADER_BYTES + GameWriter.FOOTER_BYTES
+                    || readInt(0) != GameWriter.MAGIC) {
+                throw new IOException("Not a game archive -> " + path);
+            }
+            if (get(4) != GameWriter.FORMAT_VERSION) {
+                throw new IOException("Unsupported archive format version -> " + get(4));
+            }
+            this.rulesVersion = get(5);
+            this.boardSize = (get(6) << 8) | get(7);
+            this.index = readLong(length - GameWriter.FOOTER_BYTES);
+            this.games = readLong(length - GameWriter.FOOTER_BYTES + 8);
+            if (games < 0 || index < GameWriter.HEADER_BYTES
+                    || index + 8 * games != length - GameWriter.FOOTER_BYTES) {
+                throw new IOException("Archive index is missing or damaged -> " + path);
+            }
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    public int getBoardSize() {
+        return boardSize;
+    }
+
+    public int getRulesVersion() {
+        return rulesVersion;
+    }
+
+    public long gameCount() {
+        return games;
+    }
+
+    /** @return the number of plies (moves and passes) of {@code game}. */
+    public int getPlies(long game) {
+        return (int) new Cursor(offset(game)).varint();
+    }
+
+    /**
+     * @return {@link BitBoard#RED}, {@link BitBoard#BLUE}, or
+     * {@link BitBoard#NONE} if {@code game} was recorded unfinished.
+     */
+    public int getWinner(long game) {
+        Cursor cursor = new Cursor(offset(game));
+        int count = (int) cursor.varint();
+        for (int i = 0; i < count; i++) {
+            cursor.varint();
+        }
+        return winner(cursor.next());
+    }
+
+    /** @return the plies of {@code game}: cell ids, {@link Controller#PASS} for a pass. */
+    public int[] getMoves(long game) {
+        Cursor cursor = new Cursor(offset(game));
+        int[] plies = new int[(int) cursor.varint()];
+        for (int i = 0; i < plies.length; i++) {
+            plies[i] = (int) cursor.varint() - 1;
+        }
+        return plies;
+    }
+
+    /**
+     * Replays {@code game} from an empty board.
+     * @return the game after its last ply.
+     * @throws IllegalArgumentException if a ply is not valid in its position.
+     */
+    public Controller replay(long game) {
+        Controller c = new Controller(boardSize);
+        for (int ply : getMoves(game)) {
+            c.makeMove(ply);
+        }
+        return c;
+    }
+
+    /** Reads every game in file order, passing each to {@code visitor}. */
+    public void scan(GameVisitor visitor) {
+        Cursor cursor = new Cursor(GameWriter.HEADER_BYTES);
+        int[] plies = new int[64];
+        for (long game = 0; game < games; game++) {
+            int count = (int) cursor.varint();
+            if (plies.length < count) {
+                plies = new int[Math.max(count, 2 * plies.length)];
+            }
+            for (int i = 0; i < count; i++) {
+                plies[i] = (int) cursor.varint() - 1;
+            }
+            visitor.visit(game, plies, count, winner(cursor.next()));
+        }
+    }
+
+    /** Unmaps lazily: mapped windows are released once they are collected. */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private long offset(long game) {
+        if (game < 0 || game >= games) {
+            throw new IndexOutOfBoundsException("No such game -> " + game);
+        }
+        return readLong(index + 8 * game);
+    }
+
+    private static int winner(int result) {
+        return result == GameWriter.UNFINISHED ? BitBoard.NONE : result - 1;
+    }
+
+    private int get(long pos) {
+        return windows[(int) (pos >>> windowShift)].get((int) (pos & windowMask)) & 0xFF;
+    }
+
+    private int readInt(long pos) {
+        return (get(pos) << 24) | (get(pos + 1) << 16) | (get(pos + 2) << 8) | get(pos + 3);
+    }
+
+    private long readLong(long pos) {
+        return ((long) readInt(pos) << 32) | (readInt(pos + 4) & 0xFFFFFFFFL);
+    }
+
+    /** Sequential position in the file, crossing window boundaries as needed. */
+    private final class Cursor {
+        private MappedByteBuffer window;
+        private int windowIndex;
+        private int pos;
+
+        Cursor(long start) {
+            windowIndex = (int) (start >>> windowShift);
+            pos = (int) (start & windowMask);
+            window = windows[windowIndex];
+        }
+
+        int next() {
+            if (pos == window.limit()) {
+                window = windows[++windowIndex];
+                pos = 0;
+            }
+            return window.get(pos++) & 0xFF;
+        }
+
+        long varint() {
+            long value = 0;
+            for (int shift = 0; ; shift += 7) {
+                int b = next();
+                value |= (long) (b & 0x7F) << shift;
+                if (b < 0x80) return value;
+            }
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            System.out.println("Usage: java -cp out Archive.GameReader file [--replay]");
+            return;
+        }
+        boolean replay = args.length > 1 && args[1].equals("--replay");
+        Path path = Paths.get(args[0]);
+        try (GameReader reader = new GameReader(path)) {
+            long bytes = reader.channel.size();
+            System.out.printf("base-%d, rules v%d, %d games, %.1f MB%n",
+                    reader.getBoardSize(), reader.getRulesVersion(), reader.gameCount(), bytes / 1e6);
+
+            long[] totals = new long[4]; // plies, RED wins, BLUE wins, unfinished
+            Controller[] game = {new Controller(reader.getBoardSize())};
+            Controller empty = new Controller(reader.getBoardSize());
+            long start = System.nanoTime();
+            reader.scan((index, plies, count, winner) -> {
+                totals[0] += count;
+                totals[winner == BitBoard.NONE ? 3 : winner + 1]++;
+                if (replay) {
+                    game[0].copyFrom(empty);
+                    for (int i = 0; i < count; i++) {
+                        game[0].makeMove(plies[i]);
+                    }
+                    int actual = game[0].getGameOver() ? BitBoard.playerIndex(game[0].getCurrentPlayer()) : BitBoard.NONE;
+                    if (actual != winner) {
+                        throw new IllegalStateException("Game " + index + " replays to a different result");
+                    }
+                }
+            });
+            double seconds = (System.nanoTime() - start) / 1e9;
+            System.out.printf("%d plies, RED %d, BLUE %d, unfinished %d%n", totals[0], totals[1], totals[2], totals[3]);
+            System.out.printf("%s in %.2f s: %.0f plies/s, %.0f MB/s%n", replay ? "replayed" : "scanned",
+                    seconds, totals[0] / seconds, bytes / 1e6 / seconds);
+        }
+    }
+}
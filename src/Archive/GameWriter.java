@@ -0,0 +1,154 @@
+package Archive;
+
+import Controller.Controller;
+import Model.BitBoard;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Streams games into a binary game archive.
+ *
+ * <h6>Format</h6>
+ * All multi‑byte integers are big‑endian.
+ * <pre>
+ *   header   16 bytes  magic "HXGA", format version, rules version,
+ *                      board size (2 bytes), 8 reserved bytes
+ *   games    one record per game, back to back:
+ *              varint   number of plies
+ *              varint   per ply: cell id + 1, or 0 for a pass
+ *              byte     result: 0 unfinished, 1 RED won, 2 BLUE won
+ *   index    8‑byte offset of every game record, in game order
+ *   footer   8‑byte offset of the index, 8‑byte game count
+ * </pre>
+ * Varints are unsigned LEB128 (7 bits per byte, low bits first), so each
+ * ply of a base‑7 game (127 cells) takes a single byte and boards up to
+ * 8 000 or so cells take two. Plies are replayed with
+ * {@link Controller#makeMove(int)}, which is what the rules version in the
+ * header refers to.
+ *
+ * <p>Records are written through a buffer as they arrive; only the 8‑byte
+ * offset of each game stays on the heap until {@link #close()} appends the
+ * index. An archive that was never closed has no index and can't be read.
+ * {@link #writeGame(int[], int, int)} is synchronized so worker threads can
+ * share one writer; games are then stored in the order they finish.</p>
+ */
+public final class GameWriter implements Closeable {
+    static final int MAGIC = 0x48584741; // "HXGA"
+    static final int FORMAT_VERSION = 1;
+    /** Version of the rules the recorded plies were played under. */
+    public static final int RULES_VERSION = 1;
+    static final int HEADER_BYTES = 16;
+    static final int FOOTER_BYTES = 16;
+
+    static final int UNFINISHED = 0;
+
+    private final OutputStream out;
+    private final int boardSize;
+    private final int cells;
+    private long position;
+    private long[] offsets = new long[1024];
+    private long games;
+    private boolean closed;
+
+    /**
+     * Creates (or replaces) the archive at {@code path} for games on a
+     * board with {@code boardSize} cells along each edge.
+     */
+    public GameWriter(Path path, int boardSize) throws IOException {
+        if (boardSize < 1 || boardSize > 0xFFFF) {
+            throw new IllegalArgumentException("Invalid board size -> " + boardSize);
+        }
+        this.out = new BufferedOutputStream(Files.newOutputStream(path), 1 << 16);
+        this.boardSize = boardSize;
+        this.cells = 3 * boardSize * (boardSize - 1) + 1;
+        writeInt(MAGIC);
+        write(FORMAT_VERSION);
+        write(RULES_VERSION);
+        write(boardSize >>> 8);
+        write(boardSize);
+        writeLong(0);
+    }
+
+    public int getBoardSize() {
+        return boardSize;
+    }
+
+    /** @return games written so far. */
+    public synchronized long gameCount() {
+        return games;
+    }
+
+    /**
+     * Appends one game.
+     * @param plies   cell ids in the order played, {@link Controller#PASS} for a pass.
+     * @param count   number of plies in {@code plies} to write.
+     * @param winner  {@link BitBoard#RED}, {@link BitBoard#BLUE}, or
+     *                {@link BitBoard#NONE} for an unfinished game.
+     * @throws IllegalArgumentException if a ply is not a cell of the board.
+     */
+    public synchronized void writeGame(int[] plies, int count, int winner) throws IOException {
+        if (closed) throw new IOException("Archive is closed");
+        for (int i = 0; i < count; i++) {
+            if (plies[i] < Controller.PASS || plies[i] >= cells) {
+                throw new IllegalArgumentException("Invalid ply -> " + plies[i]);
+            }
+        }
+        if (games == offsets.length) {
+            offsets = Arrays.copyOf(offsets, 2 * offsets.length);
+        }
+        offsets[(int) games++] = position;
+        writeVarint(count);
+        for (int i = 0; i < count; i++) {
+            writeVarint(plies[i] + 1);
+        }
+        write(winner == BitBoard.NONE ? UNFINISHED : winner + 1);
+    }
+
+    /** Appends the index and footer and closes the file. */
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) return;
+        closed = true;
+        try {
+            long index = position;
+            for (long i = 0; i < games; i++) {
+                writeLong(offsets[(int) i]);
+            }
+            writeLong(index);
+            writeLong(games);
+        } finally {
+            out.close();
+        }
+    }
+
+    private void writeVarint(int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        write(value);
+    }
+
+    private void writeInt(int value) throws IOException {
+        write(value >>> 24);
+        write(value >>> 16);
+        write(value >>> 8);
+        write(value);
+    }
+
+    private void writeLong(long value) throws IOException {
+        writeInt((int) (value >>> 32));
+        writeInt((int) value);
+    }
+
+    private void write(int b) throws IOException {
+        out.write(b);
+        position++;
+    }
+}
@@ -0,0 +1,182 @@
+package Archive;
+
+import Controller.Controller;
+import Model.BitBoard;
+import Model.Board;
+import Model.Symmetry;
+import Model.Zobrist;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalInt;
+
+/**
+ * Read‑only opening book: win statistics of the moves played from early
+ * positions, built by {@link BookBuilder}.
+ *
+ * <h6>Format</h6>
+ * All multi‑byte integers are big‑endian.
+ * <pre>
+ *   header   16 bytes  magic "HXOB", format version, rules version,
+ *                      board size (2 bytes), 8‑byte record count
+ *   records  20 bytes each, sorted by key then move:
+ *              8‑byte key   canonical position hash (see below)
+ *              4‑byte move  cell id in the canonical orientation
+ *                           ({@link Symmetry#canonicalMove(BitBoard, int)})
+ *              4‑byte games games in which the move was played here
+ *              4‑byte wins  of those, games won by the player who moved
+ * </pre>
+ * A position's key is the smallest Zobrist hash over its 12 board
+ * symmetries ({@link Symmetry#canonical(BitBoard)}), with
+ * {@link Zobrist#BLUE_TO_MOVE} folded in when BLUE is to move, so rotated
+ * and mirrored versions of an opening share one set of records. Moves that
+ * are equivalent by a symmetry of the position itself share one record,
+ * reported for one of the equivalent cells.
+ *
+ * <p>The file is memory‑mapped, so the book lives in the page cache and is
+ * shared by every JVM on the machine that opens it; a probe is a binary
+ * search over the records plus 12 hashes of the (nearly empty) opening
+ * position. A book may be probed from several threads.</p>
+ */
+public final class OpeningBook implements Closeable {
+    static final int MAGIC = 0x48584F42; // "HXOB"
+    static final int FORMAT_VERSION = 1;
+    static final int HEADER_BYTES = 16;
+    static final int RECORD_BYTES = 20;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final int boardSize;
+    private final int records;
+    private final Symmetry symmetry;
+
+    /** Statistics of one book move, in the orientation of the probed game. */
+    public static final class Entry {
+        public final int cell;
+        public final int games;
+        public final int wins;
+
+        Entry(int cell, int games, int wins) {
+            this.cell = cell;
+            this.games = games;
+            this.wins = wins;
+        }
+
+        /** @return the fraction of games won by the player who played {@link #cell}. */
+        public double winRate() {
+            return wins / (double) games;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Entry[cell:%d, games:%d, wins:%d]", cell, games, wins);
+        }
+    }
+
+    public OpeningBook(Path path) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            long length = channel.size();
+            if (length > Integer.MAX_VALUE) {
+                throw new IOException("Opening book too large to map -> " + path);
+            }
+            this.buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, length);
+            if (length < HEADER_BYTES || buffer.getInt(0) != MAGIC) {
+                throw new IOException("Not an opening book -> " + path);
+            }
+            if (buffer.get(4) != FORMAT_VERSION) {
+                throw new IOException("Unsupported opening book version -> " + buffer.get(4));
+            }
+            if (buffer.get(5) != GameWriter.RULES_VERSION) {
+                throw new IOException("Opening book built for rules version " + buffer.get(5));
+            }
+            this.boardSize = buffer.getShort(6) & 0xFFFF;
+            long count = buffer.getLong(8);
+            if (count < 0 || HEADER_BYTES + count * RECORD_BYTES != length) {
+                throw new IOException("Opening book is damaged -> " + path);
+            }
+            this.records = (int) count;
+            this.symmetry = new Symmetry(new Board(boardSize));
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    public int getBoardSize() {
+        return boardSize;
+    }
+
+    /** @return the number of (position, move) records. */
+    public int size() {
+        return records;
+    }
+
+    /**
+     * Book moves for the player to move in {@code game}, most played first.
+     * @return an empty list if the position is not in the book, the game is
+     * over, or it is played on a board of another size.
+     */
+    public List<Entry> probe(Controller game) {
+        List<Entry> entries = new ArrayList<>();
+        if (game.getGameOver() || game.getBoard().getSize() != boardSize) return entries;
+
+        BitBoard bits = game.getBoard().getBitBoard();
+        int sym = symmetry.canonical(bits);
+        long key = symmetry.hash(sym, bits);
+        if (game.getCurrentPlayer().equals("BLUE")) key ^= Zobrist.BLUE_TO_MOVE;
+
+        for (int i = firstRecord(key); i < records && keyAt(i) == key; i++) {
+            int at = HEADER_BYTES + i * RECORD_BYTES;
+            entries.add(new Entry(symmetry.invert(sym, buffer.getInt(at + 8)),
+                    buffer.getInt(at + 12), buffer.getInt(at + 16)));
+        }
+        entries.sort((a, b) -> Integer.compare(b.games, a.games));
+        return entries;
+    }
+
+    /**
+     * The valid book move with the best win rate among those played in at
+     * least {@code minGames} games (ties go to the more played move).
+     */
+    public OptionalInt bestMove(Controller game, int minGames) {
+        Entry best = null;
+        for (Entry e : probe(game)) {
+            if (e.games < minGames || !game.isValidMove(e.cell)) continue;
+            if (best == null || e.winRate() > best.winRate()) {
+                best = e;
+            }
+        }
+        return best == null ? OptionalInt.empty() : OptionalInt.of(best.cell);
+    }
+
+    /** Closes the file; the mapping is released once it is collected. */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /** @return the index of the first record with {@code key}, or where it would be. */
+    private int firstRecord(long key) {
+        int lo = 0, hi = records;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (keyAt(mid) < key) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    private long keyAt(int record) {
+        return buffer.getLong(HEADER_BYTES + record * RECORD_BYTES);
+    }
+}
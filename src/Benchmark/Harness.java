@@ -0,0 +1,151 @@
+package Benchmark;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongSupplier;
+import java.util.regex.Pattern;
+
+/**
+ * Minimal micro‑benchmark runner, modelled on JMH's throughput mode with
+ * its GC profiler.
+ *
+ * <p>Each benchmark is an operation returning a {@code long}; results are
+ * folded into a sink so the JIT can't drop the work. A benchmark runs a
+ * number of timed warm‑up iterations, then measurement iterations, and
+ * reports mean time per operation with its standard deviation, plus the
+ * bytes allocated per operation by the benchmark thread and the number
+ * and duration of collections that ran while it was measured.</p>
+ *
+ * <p>Allocation figures come from
+ * {@code com.sun.management.ThreadMXBean}; on JVMs without it they are
+ * reported as -1.</p>
+ */
+public final class Harness {
+    private final int warmups;
+    private final int iterations;
+    private final long iterationNanos;
+    private final Pattern filter;
+    private final List<String> rows = new ArrayList<>();
+    private long sink;
+
+    public Harness(int warmups, int iterations, long iterationMillis, String filter) {
+        this.warmups = warmups;
+        this.iterations = iterations;
+        this.iterationNanos = iterationMillis * 1_000_000L;
+        this.filter = Pattern.compile(filter == null ? ".*" : filter);
+    }
+
+    /**
+     * Builds a harness from {@code --warmup N --iterations N --time ms --filter regex}.
+     */
+    public static Harness fromArgs(String[] args) {
+        int warmups = 3, iterations = 5;
+        long millis = 1000;
+        String filter = null;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--warmup": warmups = Integer.parseInt(args[++i]); break;
+                case "--iterations": iterations = Integer.parseInt(args[++i]); break;
+                case "--time": millis = Long.parseLong(args[++i]); break;
+                case "--filter": filter = args[++i]; break;
+                default: throw new IllegalArgumentException("Unknown option -> " + args[i]);
+            }
+        }
+        return new Harness(warmups, iterations, millis, filter);
+    }
+
+    /**
+     * Runs one benchmark if its name matches the filter.
+     * @param opsPerCall how many logical operations one call of {@code op}
+     *                   performs (eg; moves in a replayed game).
+     */
+    public void run(String name, int opsPerCall, LongSupplier op) {
+        if (!filter.matcher(name).find()) return;
+
+        for (int i = 0; i < warmups; i++) {
+            iteration(op);
+        }
+        double[] nsPerOp = new double[iterations];
+        long bytes = 0, calls = 0;
+        long gcCount = 0, gcMillis = 0;
+        for (int i = 0; i < iterations; i++) {
+            long gcCountBefore = gcCount(), gcMillisBefore = gcMillis();
+            long allocBefore = allocatedBytes();
+            long[] result = iteration(op);
+            long allocAfter = allocatedBytes();
+            gcCount += gcCount() - gcCountBefore;
+            gcMillis += gcMillis() - gcMillisBefore;
+
+            nsPerOp[i] = result[1] / (double) (result[0] * opsPerCall);
+            bytes += allocAfter - allocBefore;
+            calls += result[0];
+        }
+
+        double mean = 0;
+        for (double v : nsPerOp) mean += v;
+        mean /= iterations;
+        double var = 0;
+        for (double v : nsPerOp) var += (v - mean) * (v - mean);
+        double sd = iterations > 1 ? Math.sqrt(var / (iterations - 1)) : 0;
+        double bytesPerOp = allocatedBytes() < 0 ? -1 : bytes / (double) (calls * opsPerCall);
+
+        String row = String.format("%-40s %14.1f %12.1f %10.1f %12.1f %8d %8d",
+                name, 1e9 / mean, mean, sd, bytesPerOp, gcCount, gcMillis);
+        rows.add(row);
+        System.out.println(row);
+    }
+
+    public static String header() {
+        return String.format("%-40s %14s %12s %10s %12s %8s %8s",
+                "benchmark", "ops/s", "ns/op", "+- ns", "B/op", "gc.count", "gc.ms");
+    }
+
+    /** @return the rows printed so far, for writing a baseline file. */
+    public List<String> getRows() {
+        return rows;
+    }
+
+    /** Value folded from every result; print it so the work stays observable. */
+    public long getSink() {
+        return sink;
+    }
+
+    /** @return {calls, elapsed nanos} of one timed iteration. */
+    private long[] iteration(LongSupplier op) {
+        long calls = 0;
+        long start = System.nanoTime();
+        long elapsed;
+        do {
+            sink += op.getAsLong();
+            calls++;
+            elapsed = System.nanoTime() - start;
+        } while (elapsed < iterationNanos);
+        return new long[]{calls, elapsed};
+    }
+
+    private static long allocatedBytes() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean) {
+            return ((com.sun.management.ThreadMXBean) bean).getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return -1;
+    }
+
+    private static long gcCount() {
+        long total = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            total += Math.max(0, gc.getCollectionCount());
+        }
+        return total;
+    }
+
+    private static long gcMillis() {
+        long total = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            total += Math.max(0, gc.getCollectionTime());
+        }
+        return total;
+    }
+}
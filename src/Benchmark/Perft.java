@@ -0,0 +1,306 @@
+package Benchmark;
+
+import Archive.GameReader;
+import Controller.Controller;
+import Controller.MoveBatch;
+import Controller.Position;
+import Controller.UndoRecord;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Counts the move tree below a position, as chess engines do with perft,
+ * to benchmark and cross‑check move generation.
+ *
+ * <h6>What is counted</h6>
+ * Every line of play of exactly {@code depth} plies from the position,
+ * where a ply is a placement or, for a player left without valid moves, a
+ * pass. A capture keeps the turn, so the next ply is the same player's.
+ * Lines that end the game earlier are not counted, as mates before the
+ * horizon aren't in chess. Alongside the leaf count, the plies reaching the
+ * leaves are broken down into captures, passes and wins.
+ *
+ * <h6>Cross‑checking</h6>
+ * The counts are fixed by the rules, so any change to
+ * {@code captureMove}, {@code getValidMoves} or the caches behind them must
+ * leave them unchanged. {@link #divide} gives them per root move, which
+ * narrows a mismatch down to one subtree; play that move and divide again.
+ * On the last ply the moves are checked in one
+ * {@link Controller#checkMoves(int[], int, MoveBatch)} batch instead of
+ * being played ("bulk counting"); counting without it must give the same
+ * numbers, which cross‑checks the batch against {@link Controller#makeMove}.
+ * A generated move the batch calls illegal fails the count.
+ *
+ * <p>Run: {@code java -cp out Benchmark.Perft [--depth N] [--threads N]
+ * [--divide] [--no-bulk] [--size N | --position TEXT | --archive file --game N
+ * [--ply N] | --suite file]}. Positions are in the text form of
+ * {@link Position#toText()}. A suite file has one position per line, each
+ * followed by expected counts as {@code ; D<depth> <nodes>}; every count is
+ * checked and the exit status is 1 if any differ. Blank lines and lines
+ * starting with {@code #} are skipped.</p>
+ */
+public final class Perft {
+    private final boolean bulk;
+
+    /** Leaf count of a tree, and how the plies reaching the leaves were played. */
+    public static final class Counts {
+        public long nodes;
+        public long captures;
+        public long passes;
+        public long wins;
+
+        public void add(Counts other) {
+            nodes += other.nodes;
+            captures += other.captures;
+            passes += other.passes;
+            wins += other.wins;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Counts[nodes:%d, captures:%d, passes:%d, wins:%d]", nodes, captures, passes, wins);
+        }
+    }
+
+    /**
+     * @param bulk whether moves on the last ply are checked in one batch
+     *             rather than played.
+     */
+    public Perft(boolean bulk) {
+        this.bulk = bulk;
+    }
+
+    public Perft() {
+        this(true);
+    }
+
+    /**
+     * Counts the tree {@code depth} plies deep below the position of
+     * {@code game}, on the calling thread. The game is back in its position
+     * afterwards.
+     */
+    public Counts count(Controller game, int depth) {
+        Counts counts = new Counts();
+        if (depth == 0) {
+            counts.nodes = 1;
+        } else if (!game.getGameOver()) {
+            new Walk(game, depth).walk(depth, 0, counts);
+        }
+        return counts;
+    }
+
+    /**
+     * Counts the tree below each root move of {@code position} across
+     * {@code threads} worker threads, one root move per task.
+     * @param depth at least 1.
+     * @return the counts per root move (cell id, or {@link Controller#PASS}
+     * when the player must pass), in ascending move order; empty if the game
+     * is over.
+     */
+    public Map<Integer, Counts> divide(Position position, int depth, int threads) {
+        if (depth < 1) {
+            throw new IllegalArgumentException("Invalid depth -> " + depth);
+        }
+        int[] roots = position.getGameOver() ? new int[0]
+                : position.hasValidMoves() ? position.validMoves() : new int[]{Controller.PASS};
+        ExecutorService pool = Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, "perft");
+            t.setDaemon(true);
+            return t;
+        });
+        try {
+            List<Future<Counts>> subtrees = new ArrayList<>();
+            for (int move : roots) {
+                subtrees.add(pool.submit(() -> {
+                    Controller game = position.toController();
+                    Counts counts = new Counts();
+                    UndoRecord record = game.makeMove(move);
+                    if (depth == 1) {
+                        leaf(game, record, counts);
+                    } else if (!game.getGameOver()) {
+                        new Walk(game, depth - 1).walk(depth - 1, 0, counts);
+                    }
+                    return counts;
+                }));
+            }
+            Map<Integer, Counts> divide = new LinkedHashMap<>();
+            for (int i = 0; i < roots.length; i++) {
+                divide.put(roots[i], subtrees.get(i).get());
+            }
+            return divide;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Perft interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Perft failed", e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /** The sum of the counts of {@link #divide}. */
+    public static Counts total(Map<Integer, Counts> divide) {
+        Counts total = new Counts();
+        for (Counts counts : divide.values()) {
+            total.add(counts);
+        }
+        return total;
+    }
+
+    /** Counts the leaf reached by the ply of {@code record}, just played in {@code game}. */
+    private static void leaf(Controller game, UndoRecord record, Counts counts) {
+        counts.nodes++;
+        if (record.isPass()) counts.passes++;
+        if (record.getCapturedCount() > 0) counts.captures++;
+        if (game.getGameOver()) counts.wins++;
+    }
+
+    /**
+     * Depth‑first walk of one game, with a move list and undo record per
+     * ply so nothing is allocated once it is under way.
+     */
+    private final class Walk {
+        private final Controller game;
+        private final int[][] moves;
+        private final UndoRecord[] undo;
+        private final MoveBatch batch = new MoveBatch();
+
+        Walk(Controller game, int depth) {
+            this.game = game;
+            this.moves = new int[depth][game.getBoard().cellCount()];
+            this.undo = new UndoRecord[depth];
+            for (int i = 0; i < depth; i++) {
+                undo[i] = new UndoRecord();
+            }
+        }
+
+        /** Adds the leaves {@code depth} plies below the current position, which is not over. */
+        void walk(int depth, int ply, Counts counts) {
+            int[] list = moves[ply];
+            int count = game.getValidMoveIds(list);
+            if (count == 0) {
+                list[0] = Controller.PASS;
+                count = 1;
+            } else if (depth == 1 && bulk) {
+                game.checkMoves(list, count, batch);
+                if (batch.legalCount() != count) {
+                    throw new IllegalStateException("Generated moves checked illegal -> "
+                            + (count - batch.legalCount()) + " of " + count);
+                }
+                counts.nodes += count;
+                for (int i = 0; i < count; i++) {
+                    if (batch.keepsTurn(i)) counts.captures++;
+                    if (batch.wins(i)) counts.wins++;
+                }
+                return;
+            }
+            for (int i = 0; i < count; i++) {
+                UndoRecord record = game.makeMove(list[i], undo[ply]);
+                if (depth == 1) {
+                    leaf(game, record, counts);
+                } else if (!game.getGameOver()) {
+                    walk(depth - 1, ply + 1, counts);
+                }
+                game.unmakeMove(record);
+            }
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        int depth = 3;
+        int threads = Runtime.getRuntime().availableProcessors();
+        boolean divide = false;
+        boolean bulk = true;
+        Position position = new Controller().snapshot();
+        String suite = null, archive = null;
+        long game = 0;
+        int ply = -1;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--depth": depth = Integer.parseInt(args[++i]); break;
+                case "--threads": threads = Integer.parseInt(args[++i]); break;
+                case "--divide": divide = true; break;
+                case "--no-bulk": bulk = false; break;
+                case "--size": position = new Controller(Integer.parseInt(args[++i])).snapshot(); break;
+                case "--position": position = Position.parse(args[++i]); break;
+                case "--archive": archive = args[++i]; break;
+                case "--game": game = Long.parseLong(args[++i]); break;
+                case "--ply": ply = Integer.parseInt(args[++i]); break;
+                case "--suite": suite = args[++i]; break;
+                default: throw new IllegalArgumentException("Unknown option -> " + args[i]);
+            }
+        }
+        if (archive != null) {
+            try (GameReader reader = new GameReader(Paths.get(archive))) {
+                int[] plies = reader.getMoves(game);
+                Controller replay = new Controller(reader.getBoardSize());
+                for (int i = 0; i < (ply < 0 ? plies.length : Math.min(ply, plies.length)); i++) {
+                    replay.makeMove(plies[i]);
+                }
+                position = replay.snapshot();
+            }
+        }
+        Perft perft = new Perft(bulk);
+        if (suite != null) {
+            if (!runSuite(perft, Files.readAllLines(Paths.get(suite)), threads)) {
+                System.exit(1);
+            }
+            return;
+        }
+
+        System.out.println(position.toText());
+        long start = System.nanoTime();
+        Map<Integer, Counts> subtrees = perft.divide(position, depth, threads);
+        double seconds = (System.nanoTime() - start) / 1e9;
+        if (divide) {
+            for (Map.Entry<Integer, Counts> entry : subtrees.entrySet()) {
+                System.out.printf("%6s: %d%n", entry.getKey() == Controller.PASS ? "pass" : entry.getKey(), entry.getValue().nodes);
+            }
+        }
+        Counts total = total(subtrees);
+        System.out.printf("depth %d: %d nodes, %d captures, %d passes, %d wins%n",
+                depth, total.nodes, total.captures, total.passes, total.wins);
+        System.out.printf("%.3f s, %.0f nodes/s, %d threads%n", seconds, total.nodes / seconds, threads);
+    }
+
+    /**
+     * Checks every {@code ; D<depth> <nodes>} of the suite lines.
+     * @return true if all counts match.
+     */
+    static boolean runSuite(Perft perft, List<String> lines, int threads) {
+        boolean passed = true;
+        long nodes = 0;
+        long start = System.nanoTime();
+        for (String line : lines) {
+            if (line.isBlank() || line.startsWith("#")) continue;
+            String[] parts = line.split(";");
+            Position position = Position.parse(parts[0]);
+            for (int i = 1; i < parts.length; i++) {
+                String[] expected = parts[i].trim().split("\\s+");
+                if (expected.length != 2 || !expected[0].startsWith("D")) {
+                    throw new IllegalArgumentException("Invalid expected count -> " + parts[i]);
+                }
+                int depth = Integer.parseInt(expected[0].substring(1));
+                long actual = total(perft.divide(position, depth, threads)).nodes;
+                nodes += actual;
+                boolean ok = actual == Long.parseLong(expected[1]);
+                passed &= ok;
+                System.out.printf("%s  D%d %d%s%n", ok ? "ok  " : "FAIL", depth, actual,
+                        ok ? "" : " (expected " + expected[1] + ") " + parts[0].trim());
+            }
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("%s, %d nodes in %.3f s, %.0f nodes/s%n", passed ? "passed" : "FAILED", nodes, seconds, nodes / seconds);
+        return passed;
+    }
+}
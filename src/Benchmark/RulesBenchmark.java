@@ -0,0 +1,224 @@
+package Benchmark;
+
+import Controller.BitRules;
+import Controller.Controller;
+import Controller.MoveBatch;
+import Model.BitBoard;
+import Model.Board;
+import Model.Hexagon;
+import Model.Layout;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Throughput and allocation baseline for the rules engine and hit‑testing.
+ *
+ * <p>Covers, on an empty, a mid‑game and a crowded position:</p>
+ * <ul>
+ *   <li>{@link Controller#getValidMoves()} (cached) and a full
+ *       {@link BitRules#validMoves(int, long[])} scan,</li>
+ *   <li>{@link Controller#captureMove(Hexagon)} over the empty cells, and
+ *       all of them checked one {@link BitRules#captureMove} at a time
+ *       against one {@link Controller#checkMoves(int[], int, MoveBatch)}
+ *       batch (reported per candidate),</li>
+ *   <li>{@link Controller#getConnectedGroup(Hexagon, String)} over the owned cells,</li>
+ *   <li>{@link Controller#checkWin(String)},</li>
+ * </ul>
+ * <p>plus {@link Board#getHexagonAt(int, int)} over random canvas pixels and
+ * a complete recorded game replayed through {@code handleMove} (reported
+ * per move). Positions come from seeded random games, so every run measures
+ * the same boards.</p>
+ *
+ * <p>Run: {@code java -cp out Benchmark.RulesBenchmark [--size N]
+ * [--warmup N] [--iterations N] [--time ms] [--filter regex] [--out file]}.
+ * Besides ops/s and ns/op, every row has the bytes allocated per operation
+ * and the collections seen while measuring; {@code --out} saves the table as
+ * a baseline to diff later runs against.</p>
+ */
+public class RulesBenchmark {
+    private static final long SEED = 20240601L;
+    private static final double MID_FILL = 0.35;
+    private static final double CROWDED_FILL = 0.70;
+
+    public static void main(String[] args) throws IOException {
+        int size = 7;
+        String out = null;
+        List<String> rest = new ArrayList<>();
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals("--size")) {
+                size = Integer.parseInt(args[++i]);
+            } else if (args[i].equals("--out")) {
+                out = args[++i];
+            } else {
+                rest.add(args[i]);
+            }
+        }
+        Harness harness = Harness.fromArgs(rest.toArray(new String[0]));
+
+        int boardSize = size;
+        int[] game = randomGame(size, new Random(SEED));
+        System.out.println("base-" + size + ", recorded game of " + game.length + " plies");
+        System.out.println(Harness.header());
+
+        positionBenchmarks(harness, "empty", new Controller(size));
+        positionBenchmarks(harness, "midgame", replay(size, game, plyReaching(size, game, MID_FILL)));
+        positionBenchmarks(harness, "crowded", crowded(size));
+        hitTestBenchmark(harness, size);
+        harness.run("handleMove.game", game.length, () -> replay(boardSize, game, game.length).getBoard().getBitBoard().count(BitBoard.RED));
+
+        System.out.println("(sink " + harness.getSink() + ")");
+        if (out != null) {
+            List<String> lines = new ArrayList<>();
+            lines.add(Harness.header());
+            lines.addAll(harness.getRows());
+            Files.write(Paths.get(out), lines);
+        }
+    }
+
+    private static void positionBenchmarks(Harness harness, String name, Controller c) {
+        Board board = c.getBoard();
+        BitBoard bits = board.getBitBoard();
+        BitRules rules = new BitRules(board);
+        long[] scan = new long[bits.words()];
+        int player = BitBoard.playerIndex(c.getCurrentPlayer());
+        String opponent = BitBoard.playerName(BitBoard.opponent(player));
+        System.out.printf("# %s: %d RED, %d BLUE, %d empty, %s to move%n", name,
+                bits.count(BitBoard.RED), bits.count(BitBoard.BLUE),
+                board.cellCount() - bits.count(BitBoard.RED) - bits.count(BitBoard.BLUE), c.getCurrentPlayer());
+
+        List<Hexagon> empty = new ArrayList<>();
+        List<Hexagon> owned = new ArrayList<>();
+        for (Hexagon h : board.getHexagons()) {
+            (h.getOwner() == null ? empty : owned).add(h);
+        }
+
+        harness.run("getValidMoves/" + name, 1, () -> c.getValidMoves().size());
+        harness.run("validMoves.scan/" + name, 1, () -> rules.validMoves(player, scan));
+        if (!empty.isEmpty()) {
+            Hexagon[] cells = empty.toArray(new Hexagon[0]);
+            int[] next = {0};
+            harness.run("captureMove/" + name, 1, () -> {
+                Hexagon h = cells[next[0]++ % cells.length];
+                return c.captureMove(h).size();
+            });
+            // Every empty cell as a candidate: one rules call each, then one batch
+            int[] ids = new int[cells.length];
+            for (int i = 0; i < ids.length; i++) ids[i] = cells[i].getId();
+            MoveBatch batch = new MoveBatch();
+            harness.run("captureMove.each/" + name, ids.length, () -> {
+                int sum = 0;
+                for (int id : ids) sum += rules.captureMove(player, id);
+                return sum;
+            });
+            harness.run("checkMoves.batch/" + name, ids.length, () -> c.checkMoves(ids, ids.length, batch).legalCount());
+        }
+        if (!owned.isEmpty()) {
+            Hexagon[] cells = owned.toArray(new Hexagon[0]);
+            int[] next = {0};
+            harness.run("getConnectedGroup/" + name, 1, () -> {
+                Hexagon h = cells[next[0]++ % cells.length];
+                return c.getConnectedGroup(h, h.getOwner()).size();
+            });
+        }
+        harness.run("checkWin/" + name, 1, () -> c.checkWin(opponent) ? 1 : 0);
+    }
+
+    /** Clicks spread over the whole canvas, inside and outside the board. */
+    private static void hitTestBenchmark(Harness harness, int size) {
+        Board board = new Board(size);
+        Layout layout = board.getLayout();
+        Random rnd = new Random(SEED);
+        int[] xs = new int[4096], ys = new int[4096];
+        for (int i = 0; i < xs.length; i++) {
+            xs[i] = rnd.nextInt(layout.getWidth());
+            ys[i] = rnd.nextInt(layout.getHeight());
+        }
+        int[] next = {0};
+        harness.run("getHexagonAt", 1, () -> {
+            int i = next[0]++ & (xs.length - 1);
+            Hexagon h = board.getHexagonAt(xs[i], ys[i]);
+            return h == null ? -1 : h.getId();
+        });
+    }
+
+    /**
+     * Plays a seeded random game to the end (or a ply limit), recording the
+     * chosen cell ids, with -1 for a pass.
+     */
+    private static int[] randomGame(int size, Random rnd) {
+        Controller c = new Controller(size);
+        int limit = 20 * c.getBoard().cellCount();
+        int[] plies = new int[limit];
+        int count = 0;
+        while (!c.getGameOver() && count < limit) {
+            List<Hexagon> valid = c.getValidMoves();
+            if (valid.isEmpty()) {
+                plies[count++] = -1;
+                c.handleMove(c.getBoard().getHexagon(0)); // passes the turn
+            } else {
+                Hexagon target = valid.get(rnd.nextInt(valid.size()));
+                plies[count++] = target.getId();
+                c.handleMove(target);
+            }
+        }
+        return Arrays.copyOf(plies, count);
+    }
+
+    /**
+     * The fullest position among a few seeded random games, stopping at the
+     * first one that reaches {@link #CROWDED_FILL}. Random games often end
+     * in a capture long before the board fills up.
+     */
+    private static Controller crowded(int size) {
+        Controller best = null;
+        int bestOccupied = -1;
+        for (int attempt = 0; attempt < 64; attempt++) {
+            int[] game = randomGame(size, new Random(SEED + attempt));
+            Controller c = replay(size, game, plyReaching(size, game, CROWDED_FILL));
+            BitBoard bits = c.getBoard().getBitBoard();
+            int occupied = bits.count(BitBoard.RED) + bits.count(BitBoard.BLUE);
+            if (occupied > bestOccupied) {
+                best = c;
+                bestOccupied = occupied;
+            }
+            if (occupied >= CROWDED_FILL * bits.cellCount()) break;
+        }
+        return best;
+    }
+
+    /** Replays the first {@code plies} moves of a recorded game on a new board. */
+    private static Controller replay(int size, int[] game, int plies) {
+        Controller c = new Controller(size);
+        Board board = c.getBoard();
+        for (int i = 0; i < plies; i++) {
+            c.handleMove(board.getHexagon(Math.max(0, game[i])));
+        }
+        return c;
+    }
+
+    /**
+     * First ply after which at least {@code fill} of the board is occupied,
+     * or the fullest ply of the game if it never gets there.
+     */
+    private static int plyReaching(int size, int[] game, double fill) {
+        Controller c = new Controller(size);
+        BitBoard bits = c.getBoard().getBitBoard();
+        int best = 0, bestOccupied = 0;
+        for (int i = 0; i < game.length; i++) {
+            c.handleMove(c.getBoard().getHexagon(Math.max(0, game[i])));
+            int occupied = bits.count(BitBoard.RED) + bits.count(BitBoard.BLUE);
+            if (occupied >= fill * bits.cellCount()) return i + 1;
+            if (occupied > bestOccupied) {
+                best = i + 1;
+                bestOccupied = occupied;
+            }
+        }
+        return best;
+    }
+}
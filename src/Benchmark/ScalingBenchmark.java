@@ -0,0 +1,118 @@
+package Benchmark;
+
+import Controller.BitRules;
+import Controller.Controller;
+import Controller.ParallelMoveGenerator;
+import Model.BitBoard;
+import Model.Board;
+import Model.Hexagon;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Measures how rule evaluation scales with board size.
+ *
+ * <p>For each board size a fresh {@link Controller} plays random valid moves
+ * and the benchmark reports, per size:</p>
+ * <ul>
+ *   <li>heap retained by one game (board, trackers and caches),</li>
+ *   <li>mean latency of {@code handleMove},</li>
+ *   <li>mean latency of {@code getValidMoves} after each move (cache refresh),</li>
+ *   <li>a from‑scratch valid‑move scan, per cell, which should stay flat
+ *       as the board grows if evaluation is linear,</li>
+ *   <li>the same scan split over the common fork/join pool by a
+ *       {@link ParallelMoveGenerator} with no threshold, showing the board
+ *       size from which splitting pays off.</li>
+ * </ul>
+ *
+ * <p>Run: {@code java -cp out Benchmark.ScalingBenchmark [sizes...] [--plies N]}</p>
+ */
+public class ScalingBenchmark {
+    private static final int[] DEFAULT_SIZES = {7, 25, 50, 75, 100};
+
+    public static void main(String[] args) {
+        int plies = 2000;
+        int[] sizes = DEFAULT_SIZES;
+        int given = 0;
+        int[] parsed = new int[args.length];
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals("--plies")) {
+                plies = Integer.parseInt(args[++i]);
+            } else {
+                parsed[given++] = Integer.parseInt(args[i]);
+            }
+        }
+        if (given > 0) {
+            sizes = Arrays.copyOf(parsed, given);
+        }
+
+        // Warm up the JIT on a mid-sized board so the first row is not penalised
+        run(25, plies, new Random(1), false);
+
+        System.out.printf("%6s %8s %12s %14s %16s %14s %16s%n",
+                "size", "cells", "heap/game KB", "handleMove us", "validMoves us", "scan ns/cell", "parallel ns/cell");
+        for (int size : sizes) {
+            run(size, plies, new Random(43), true);
+        }
+    }
+
+    private static void run(int size, int plies, Random rnd, boolean report) {
+        long before = usedHeap();
+        Controller c = new Controller(size);
+        c.getValidMoves(); // fill the valid-move cache
+        long retained = usedHeap() - before;
+
+        Board board = c.getBoard();
+        long moveNanos = 0;
+        long validNanos = 0;
+        int moves = 0;
+        for (int ply = 0; ply < plies; ply++) {
+            if (c.getGameOver()) {
+                c = new Controller(size);
+                board = c.getBoard();
+            }
+            long t0 = System.nanoTime();
+            List<Hexagon> valid = c.getValidMoves();
+            long t1 = System.nanoTime();
+            Hexagon target = valid.isEmpty() ? board.getHexagon(0) : valid.get(rnd.nextInt(valid.size()));
+            c.handleMove(target); // passes the turn when there is no valid move
+            long t2 = System.nanoTime();
+            validNanos += t1 - t0;
+            moveNanos += t2 - t1;
+            moves++;
+        }
+
+        // Full from-scratch scan of the final position
+        BitRules rules = new BitRules(board);
+        long[] out = new long[board.getBitBoard().words()];
+        int scans = Math.max(1, 200_000 / board.cellCount());
+        long t0 = System.nanoTime();
+        for (int i = 0; i < scans; i++) {
+            rules.validMoves(BitBoard.RED, out);
+        }
+        double scanPerCell = (System.nanoTime() - t0) / (double) scans / board.cellCount();
+        ParallelMoveGenerator generator = new ParallelMoveGenerator(board, rules, ForkJoinPool.commonPool(), 0);
+        t0 = System.nanoTime();
+        for (int i = 0; i < scans; i++) {
+            generator.validMoves(BitBoard.RED, out);
+        }
+        double parallelPerCell = (System.nanoTime() - t0) / (double) scans / board.cellCount();
+
+        if (report) {
+            System.out.printf("%6d %8d %12d %14.2f %16.2f %14.2f %16.2f%n",
+                    size, board.cellCount(), Math.max(0, retained) / 1024,
+                    moveNanos / 1e3 / moves, validNanos / 1e3 / moves, scanPerCell, parallelPerCell);
+        }
+    }
+
+    private static long usedHeap() {
+        Runtime rt = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return rt.totalMemory() - rt.freeMemory();
+    }
+}
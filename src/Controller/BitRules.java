@@ -0,0 +1,510 @@
+package Controller;
+
+import Model.BitBoard;
+import Model.Board;
+import Model.GroupTracker;
+
+import java.util.Arrays;
+
+/**
+ * Bitboard implementation of the HexOust placement and capture rules.
+ *
+ * <p>All queries work on cell ids and player indices of a {@link BitBoard}
+ * and never touch {@link Model.Hexagon} objects or owner strings. Ownership
+ * tests are single bit lookups, neighbors come from the board's neighbor
+ * table and group sizes from its {@link GroupTracker}, so the size checks of
+ * the capture rule never flood‑fill opponent groups.</p>
+ *
+ * <h6>Scaling</h6>
+ * A placement next to own groups is valid when the largest opponent group
+ * adjacent to the merged group exists and is smaller than it. The largest
+ * adjacent opponent group of each own group is computed at most once per
+ * pass (by walking that group) and memoised, which makes
+ * {@link #validMoves(int, long[])} linear in the number of cells instead of
+ * one flood fill per empty cell.
+ *
+ * <p>Results are left in the public fields of this object rather than
+ * allocated, so an instance is not thread safe; each {@link Controller}
+ * owns its own.</p>
+ */
+public final class BitRules {
+    /** Returned by {@link #captureMove} when the placement is not allowed. */
+    public static final int INVALID = -1;
+
+    private final Board board;
+    private final BitBoard bits;
+    private final GroupTracker groups;
+    private final boolean readOnly;
+
+    // Output of the last connectedGroup / captureMove call
+    public final int[] group;
+    public int groupCount;
+    public final int[] captured;
+    public int capturedCount;
+
+    // Flood-fill scratch: stamp[id] == epoch marks visited cells
+    private final int[] stamp;
+    private final int[] stack;
+    private int epoch;
+
+    // Largest opponent group next to each own group root, valid while memoStamp[root] == memoEpoch
+    private final int[] memoStamp;
+    private final int[] memoMax;
+    private int memoEpoch;
+    private final int[] roots = new int[6];
+
+    // Opponent group roots next to each own group root, valid while listStamp[root] == memoEpoch
+    private final int[] listStamp;
+    private final int[] listStart;
+    private final int[] listLength;
+    private int[] listPool = new int[64];
+    private int listEnd;
+
+    public BitRules(Board board) {
+        this(board, false);
+    }
+
+    /**
+     * @param readOnly never write to the board: group roots are looked up
+     *                 with {@link GroupTracker#peekRoot}, so several instances
+     *                 can evaluate one unchanging board on different threads.
+     */
+    BitRules(Board board, boolean readOnly) {
+        this.readOnly = readOnly;
+        this.board = board;
+        this.bits = board.getBitBoard();
+        this.groups = board.getGroups();
+        int cells = board.cellCount();
+        this.group = new int[cells];
+        this.captured = new int[cells];
+        this.stamp = new int[cells];
+        this.stack = new int[cells];
+        this.memoStamp = new int[cells];
+        this.memoMax = new int[cells];
+        this.listStamp = new int[cells];
+        this.listStart = new int[cells];
+        this.listLength = new int[cells];
+    }
+
+    /**
+     * @return true if any neighbor of {@code cell} is owned by {@code player}.
+     */
+    public boolean ownsNeighbor(int player, int cell) {
+        return bits.ownsNeighbor(player, cell);
+    }
+
+    /**
+     * Flood fill from {@code start} over the cells of {@code owner}, treating
+     * {@code start} itself as part of the group whoever owns it.
+     * The cells are left in {@code group[0..groupCount)}.
+     * @return the size of the group.
+     */
+    public int connectedGroup(int start, int owner) {
+        nextEpoch();
+        groupCount = collect(start, owner, group, 0);
+        return groupCount;
+    }
+
+    /**
+     * Evaluates {@code player} placing on the empty {@code cell} without
+     * changing the board. On success the captured cells are left in
+     * {@code captured[0..capturedCount)}.
+     * @return the number of captured cells, 0 for a plain placement away from
+     * the player's own cells, or {@link #INVALID}.
+     */
+    public int captureMove(int player, int cell) {
+        capturedCount = 0;
+        if (!isValidMove(player, cell)) {
+            return INVALID;
+        }
+        if (!ownsNeighbor(player, cell)) {
+            return 0; // group of one - nothing smaller to capture
+        }
+        // Every opponent group next to the merged group is smaller: take them all
+        int opponent = BitBoard.opponent(player);
+        connectedGroup(cell, player);
+        for (int i = 0; i < groupCount; i++) {
+            int own = group[i];
+            for (int dir = 0; dir < 6; dir++) {
+                int n = board.neighborId(own, dir);
+                if (n >= 0 && stamp[n] != epoch && bits.test(opponent, n)) {
+                    capturedCount = collect(n, opponent, captured, capturedCount);
+                }
+            }
+        }
+        return capturedCount;
+    }
+
+    /**
+     * @return true if {@code player} may place on {@code cell}: the cell is
+     * empty and either touches none of the player's cells, or forms a group
+     * that captures at least one adjacent opponent group and every adjacent
+     * opponent group is smaller.
+     */
+    public boolean isValidMove(int player, int cell) {
+        if (bits.owner(cell) != BitBoard.NONE) {
+            return false;
+        }
+        nextMemoEpoch();
+        return evaluate(player, cell);
+    }
+
+    /**
+     * Checks if placing on {@code cell} joins {@code player}'s groups into one
+     * that is not strictly larger than every adjacent opponent group.
+     * @return true if there is a size conflict, false otherwise
+     */
+    public boolean hasSizeConflict(int player, int cell) {
+        if (!ownsNeighbor(player, cell)) return false;
+        nextMemoEpoch();
+        return largestAdjacentOpponent(player, cell) >= mergedGroupSize(player, cell);
+    }
+
+    /**
+     * Size of the group {@code player} would form by placing on the empty
+     * {@code cell}: the cell plus every distinct neighboring own group.
+     */
+    public int mergedGroupSize(int player, int cell) {
+        int distinct = ownRoots(player, cell);
+        int total = 1;
+        for (int i = 0; i < distinct; i++) {
+            total += groupSize(roots[i]);
+        }
+        return total;
+    }
+
+    /**
+     * Computes every valid placement for {@code player} into {@code out}
+     * (one bit per cell, {@link BitBoard#words()} words).
+     * @return the number of valid moves.
+     */
+    public int validMoves(int player, long[] out) {
+        nextMemoEpoch();
+        int count = 0;
+        for (int w = 0; w < out.length; w++) {
+            long valid = 0;
+            for (long m = bits.emptyWord(w); m != 0; m &= m - 1) {
+                int bit = Long.numberOfTrailingZeros(m);
+                if (evaluate(player, (w << 6) | bit)) valid |= 1L << bit;
+            }
+            out[w] = valid;
+            count += Long.bitCount(valid);
+        }
+        return count;
+    }
+
+    /**
+     * Re‑evaluates only the cells set in {@code cells}, writing their answers
+     * into {@code out} and leaving its other bits untouched.
+     */
+    public void validMoves(int player, long[] cells, long[] out) {
+        validMoves(player, cells, out, 0, cells.length);
+    }
+
+    /** {@link #validMoves(int, long[], long[])} over words {@code [from, to)} only. */
+    void validMoves(int player, long[] cells, long[] out, int from, int to) {
+        nextMemoEpoch();
+        for (int w = from; w < to; w++) {
+            long todo = cells[w];
+            if (todo == 0) continue;
+            long valid = out[w] & ~todo;
+            for (long m = todo & bits.emptyWord(w); m != 0; m &= m - 1) {
+                int bit = Long.numberOfTrailingZeros(m);
+                if (evaluate(player, (w << 6) | bit)) valid |= 1L << bit;
+            }
+            out[w] = valid;
+        }
+    }
+
+    /**
+     * Same answer as {@code validMoves(player, out) > 0} but stops at the
+     * first valid move found.
+     */
+    public boolean hasValidMove(int player) {
+        nextMemoEpoch();
+        int words = bits.words();
+        // Cells away from the player's own stones are always playable
+        for (int w = 0; w < words; w++) {
+            for (long m = bits.emptyWord(w); m != 0; m &= m - 1) {
+                if (!bits.ownsNeighbor(player, (w << 6) | Long.numberOfTrailingZeros(m))) return true;
+            }
+        }
+        for (int w = 0; w < words; w++) {
+            for (long m = bits.emptyWord(w); m != 0; m &= m - 1) {
+                if (evaluate(player, (w << 6) | Long.numberOfTrailingZeros(m))) return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks every candidate in {@code cells[0..count)} for {@code player}
+     * in one pass, leaving the answers in {@code out}: the same legality and
+     * captures as {@link #captureMove}, and {@link Controller#PASS} legal only
+     * without a valid move.
+     *
+     * <p>The per‑group work is shared by all candidates: each own group is
+     * walked at most once, for its largest and its distinct adjacent opponent
+     * groups, and the opponent cells are sorted by group once, on the first
+     * capture. A candidate then costs its six neighbors plus the groups it
+     * joins, instead of a flood fill of the merged group.</p>
+     */
+    public void checkMoves(int player, int[] cells, int count, MoveBatch out) {
+        int cellCount = board.cellCount();
+        out.reset(cells, count, cellCount);
+        int opponent = BitBoard.opponent(player);
+        out.opponentCells = bits.count(opponent);
+        int passResult = MoveBatch.ILLEGAL;
+        for (int i = 0; i < count; i++) {
+            if (cells[i] == Controller.PASS) {
+                passResult = hasValidMove(player) ? MoveBatch.ILLEGAL : 0;
+                break;
+            }
+        }
+
+        nextMemoEpoch();
+        listEnd = 0;
+        boolean labelled = false;
+        int end = 0;
+        for (int i = 0; i < count; i++) {
+            int cell = cells[i];
+            int result;
+            if (cell == Controller.PASS) {
+                result = passResult;
+            } else if (cell < 0 || cell >= cellCount || bits.owner(cell) != BitBoard.NONE || !evaluate(player, cell)) {
+                result = MoveBatch.ILLEGAL;
+            } else if (!bits.ownsNeighbor(player, cell)) {
+                result = 0; // group of one - nothing smaller to capture
+            } else {
+                if (!labelled) {
+                    labelGroups(opponent, out);
+                    labelled = true;
+                }
+                int distinct = ownRoots(player, cell);
+                for (int k = 0; k < distinct; k++) {
+                    opponentRootsNextToGroup(roots[k], player);
+                }
+                nextEpoch();
+                result = 0;
+                for (int dir = 0; dir < 6; dir++) {
+                    int n = board.neighborId(cell, dir);
+                    if (n >= 0 && bits.test(opponent, n)) {
+                        int root = root(n);
+                        if (stamp[root] != epoch) {
+                            stamp[root] = epoch;
+                            out.addRoot(end++, root);
+                            result += out.groupSize[root];
+                        }
+                    }
+                }
+                for (int k = 0; k < distinct; k++) {
+                    int from = listStart[roots[k]];
+                    for (int j = from; j < from + listLength[roots[k]]; j++) {
+                        int root = listPool[j];
+                        if (stamp[root] != epoch) {
+                            stamp[root] = epoch;
+                            out.addRoot(end++, root);
+                            result += out.groupSize[root];
+                        }
+                    }
+                }
+            }
+            out.captured[i] = result;
+            out.rootStart[i + 1] = end;
+            if (result != MoveBatch.ILLEGAL) out.legalCount++;
+        }
+    }
+
+    /**
+     * Sorts the cells of {@code opponent} into {@code out.members} group by
+     * group, recording where each group root's cells start.
+     */
+    private void labelGroups(int opponent, MoveBatch out) {
+        int offset = 0;
+        for (int w = 0; w < bits.words(); w++) {
+            for (long m = bits.word(opponent, w); m != 0; m &= m - 1) {
+                int cell = (w << 6) | Long.numberOfTrailingZeros(m);
+                if (root(cell) == cell) {
+                    out.groupStart[cell] = offset;
+                    out.groupSize[cell] = 0;
+                    offset += groupSize(cell);
+                }
+            }
+        }
+        for (int w = 0; w < bits.words(); w++) {
+            for (long m = bits.word(opponent, w); m != 0; m &= m - 1) {
+                int cell = (w << 6) | Long.numberOfTrailingZeros(m);
+                int root = root(cell);
+                out.members[out.groupStart[root] + out.groupSize[root]++] = cell;
+            }
+        }
+    }
+
+    /**
+     * Memoised distinct opponent group roots touching the own group rooted at
+     * {@code root}, left in {@code listPool} from {@code listStart[root]}.
+     */
+    private void opponentRootsNextToGroup(int root, int player) {
+        if (listStamp[root] == memoEpoch) {
+            return;
+        }
+        int opponent = BitBoard.opponent(player);
+        nextEpoch();
+        int top = 0;
+        int start = listEnd;
+        int visited = 0;
+        stack[top++] = root;
+        stamp[root] = epoch;
+        while (top > 0) {
+            int cell = stack[--top];
+            visited++;
+            for (int dir = 0; dir < 6; dir++) {
+                int n = board.neighborId(cell, dir);
+                if (n < 0 || stamp[n] == epoch) continue;
+                int owner = bits.owner(n);
+                if (owner == player) {
+                    stamp[n] = epoch;
+                    stack[top++] = n;
+                } else if (owner == opponent) {
+                    int r = root(n);
+                    if (stamp[r] != epoch) { // own cells and opponent roots never share an id
+                        stamp[r] = epoch;
+                        if (listEnd == listPool.length) {
+                            listPool = Arrays.copyOf(listPool, 2 * listEnd);
+                        }
+                        listPool[listEnd++] = r;
+                    }
+                }
+            }
+        }
+        if (RulesMetrics.ENABLED) RulesMetrics.INSTANCE.floodFillCells.add(visited);
+        listStamp[root] = memoEpoch;
+        listStart[root] = start;
+        listLength[root] = listEnd - start;
+    }
+
+    /** Rule check for an empty cell within the current memo epoch. */
+    private boolean evaluate(int player, int cell) {
+        if (!bits.ownsNeighbor(player, cell)) {
+            return true;
+        }
+        int largest = largestAdjacentOpponent(player, cell);
+        return largest > 0 && largest < mergedGroupSize(player, cell);
+    }
+
+    /**
+     * Largest opponent group adjacent to the group formed by placing on
+     * {@code cell}: next to the cell itself or to one of the own groups it joins.
+     */
+    private int largestAdjacentOpponent(int player, int cell) {
+        int opponent = BitBoard.opponent(player);
+        int largest = 0;
+        for (int dir = 0; dir < 6; dir++) {
+            int n = board.neighborId(cell, dir);
+            if (n >= 0 && bits.test(opponent, n)) {
+                largest = Math.max(largest, groupSize(n));
+            }
+        }
+        int distinct = ownRoots(player, cell);
+        for (int i = 0; i < distinct; i++) {
+            largest = Math.max(largest, largestNextToGroup(roots[i], player));
+        }
+        return largest;
+    }
+
+    /** Memoised largest opponent group touching the own group rooted at {@code root}. */
+    private int largestNextToGroup(int root, int player) {
+        if (memoStamp[root] == memoEpoch) {
+            return memoMax[root];
+        }
+        int opponent = BitBoard.opponent(player);
+        nextEpoch();
+        int top = 0;
+        int largest = 0;
+        int visited = 0;
+        stack[top++] = root;
+        stamp[root] = epoch;
+        while (top > 0) {
+            int cell = stack[--top];
+            visited++;
+            for (int dir = 0; dir < 6; dir++) {
+                int n = board.neighborId(cell, dir);
+                if (n < 0 || stamp[n] == epoch) continue;
+                int owner = bits.owner(n);
+                if (owner == player) {
+                    stamp[n] = epoch;
+                    stack[top++] = n;
+                } else if (owner == opponent) {
+                    largest = Math.max(largest, groupSize(n));
+                }
+            }
+        }
+        if (RulesMetrics.ENABLED) RulesMetrics.INSTANCE.floodFillCells.add(visited);
+        memoStamp[root] = memoEpoch;
+        memoMax[root] = largest;
+        return largest;
+    }
+
+    /** Collects the distinct group roots of {@code player} next to {@code cell} into roots[]. */
+    private int ownRoots(int player, int cell) {
+        int distinct = 0;
+        for (int dir = 0; dir < 6; dir++) {
+            int n = board.neighborId(cell, dir);
+            if (n < 0 || !bits.test(player, n)) continue;
+            int root = root(n);
+            boolean seen = false;
+            for (int i = 0; i < distinct; i++) {
+                if (roots[i] == root) { seen = true; break; }
+            }
+            if (!seen) roots[distinct++] = root;
+        }
+        return distinct;
+    }
+
+    /**
+     * Flood fill from {@code start} over the cells of {@code owner} within the
+     * current epoch, appending each new cell to {@code out} from {@code count}.
+     * @return the new count.
+     */
+    private int collect(int start, int owner, int[] out, int count) {
+        int first = count;
+        int top = 0;
+        stack[top++] = start;
+        stamp[start] = epoch;
+        while (top > 0) {
+            int cell = stack[--top];
+            out[count++] = cell;
+            for (int dir = 0; dir < 6; dir++) {
+                int n = board.neighborId(cell, dir);
+                if (n >= 0 && stamp[n] != epoch && bits.test(owner, n)) {
+                    stamp[n] = epoch;
+                    stack[top++] = n;
+                }
+            }
+        }
+        if (RulesMetrics.ENABLED) RulesMetrics.INSTANCE.floodFillCells.add(count - first);
+        return count;
+    }
+
+    private int root(int cell) {
+        return readOnly ? groups.peekRoot(cell) : groups.find(cell);
+    }
+
+    private int groupSize(int cell) {
+        return readOnly ? groups.peekGroupSize(cell) : groups.groupSize(cell);
+    }
+
+    private void nextEpoch() {
+        if (++epoch == Integer.MAX_VALUE) {
+            Arrays.fill(stamp, 0);
+            epoch = 1;
+        }
+    }
+
+    private void nextMemoEpoch() {
+        if (++memoEpoch == Integer.MAX_VALUE) {
+            Arrays.fill(memoStamp, 0);
+            memoEpoch = 1;
+        }
+    }
+}
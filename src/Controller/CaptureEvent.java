@@ -0,0 +1,41 @@
+package Controller;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for the erasing of captured cells, from
+ * {@link Controller#handleMove} as well as from {@link Controller#makeMove}
+ * in searches. Disable {@code hexoust.Capture} in the recording settings to
+ * leave search captures out of long recordings.
+ */
+@Name("hexoust.Capture")
+@Label("Capture")
+@Category({"HexOust", "Rules"})
+@Description("Opponent groups erased by a capturing placement")
+@StackTrace(false)
+final class CaptureEvent extends Event {
+    @Label("Cell")
+    @Description("Cell id of the capturing placement")
+    int cell;
+
+    @Label("Player")
+    @Description("Player who captured")
+    String player;
+
+    @Label("Captured")
+    @Description("Opponent cells erased")
+    int captured;
+
+    @Label("Groups")
+    @Description("Opponent groups erased")
+    int groups;
+
+    @Label("Largest Group")
+    @Description("Size of the largest erased group")
+    int largestGroup;
+}
@@ -1,15 +1,23 @@
 package Controller;
 
+import Model.BitBoard;
 import Model.Board;
 import Model.Hexagon;
+import Model.Zobrist;
 import View.GUI;
 
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
 /**
  * Central game‑logic coordinator for <i>HexOust</i>.
  * <p>The Controller owns a single {@link Model.Board} instance and
  * tracks whose turn it is. It provides a narrow API used by the GUI.</p>
  *
+ * <h6>Rules engine</h6>
+ * Move validation, captures and group queries are answered by
+ * {@link BitRules} on the board's {@link Model.BitBoard}; the methods here
+ * translate between that engine and the {@link Hexagon} based API.
+ *
  * <h6>Collaboration</h6>
  * The controller notifies the UI through a back‑reference to
  * {@link View.GUI} so the view can refresh the display.
@@ -17,41 +25,175 @@ import java.util.*;
  * keeping game logic independent of presentation.
  */
 public class Controller {
+    /** Move id of a pass in {@link #makeMove(int)}. */
+    public static final int PASS = -1;
+
     private final Board board; // final
+    private final BitBoard bits;
+    private final BitRules rules;
+    private final ValidMoveCache validMoves;
+    private final ForkJoinPool pool;
+    private final Set<Hexagon> validMoveView;
     private String currentPlayer;
     private boolean gameOver;
+    private Position snapshot; // last one taken, to share unchanged chunks with
+    private int[] loadScratch;
     private GUI gui;
 
     public Controller() {
-        this.board = new Board();
+        this(7); // Base-7 board
+    }
+
+    /**
+     * Starts a game on a board with {@code boardSize} cells along each edge.
+     */
+    public Controller(int boardSize) {
+        this(boardSize, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Starts a game whose valid moves are evaluated on {@code pool} when
+     * the board is large enough to split the work (see
+     * {@link ParallelMoveGenerator}), to size or isolate those workers.
+     */
+    public Controller(int boardSize, ForkJoinPool pool) {
+        this.board = new Board(boardSize);
+        this.bits = board.getBitBoard();
+        this.rules = new BitRules(board);
+        this.pool = pool;
+        this.validMoves = new ValidMoveCache(board, rules, pool);
+        this.validMoveView = new ValidMoveView();
         this.currentPlayer = "RED"; // Game starts with RED
         this.gameOver = false;
     }
 
+    /**
+     * A new game in the same position as this one: board, player to move and
+     * game‑over flag. The copy has no GUI and uses the same pool.
+     */
+    public Controller copy() {
+        Controller copy = new Controller(board.getSize(), pool);
+        copy.copyFrom(this);
+        return copy;
+    }
+
+    /**
+     * Resets this game to the position of {@code other}, a game on a board
+     * of the same size. Only cells that differ are rewritten, and the
+     * valid‑move cache re‑evaluates only around them.
+     */
+    public void copyFrom(Controller other) {
+        board.copyFrom(other.board);
+        currentPlayer = other.currentPlayer;
+        gameOver = other.gameOver;
+    }
+
+    /**
+     * Immutable snapshot of this game that other threads may read freely
+     * while this game keeps changing. Must be called by the thread that
+     * plays the game. Chunks of the board that did not change since the
+     * previous snapshot are shared with it.
+     */
+    public Position snapshot() {
+        Position position = Position.of(this, snapshot);
+        snapshot = position;
+        return position;
+    }
+
+    /**
+     * Resets this game to {@code position}, a position on a board of the same
+     * size. Like {@link #copyFrom(Controller)}, only cells that differ are
+     * rewritten.
+     * @throws IllegalArgumentException if the board sizes differ.
+     */
+    public void load(Position position) {
+        if (position.getSize() != board.getSize()) {
+            throw new IllegalArgumentException("Board sizes differ -> " + board.getSize() + " vs " + position.getSize());
+        }
+        if (loadScratch == null) {
+            loadScratch = new int[board.cellCount()];
+        }
+        int count = 0;
+        for (int w = 0; w < bits.words(); w++) {
+            for (int player = 0; player < 2; player++) {
+                long removed = bits.word(player, w) & ~position.word(player, w);
+                for (long m = removed; m != 0; m &= m - 1) {
+                    loadScratch[count++] = (w << 6) | Long.numberOfTrailingZeros(m);
+                }
+            }
+        }
+        board.clearOwners(loadScratch, count);
+        for (int w = 0; w < bits.words(); w++) {
+            for (int player = 0; player < 2; player++) {
+                long added = position.word(player, w) & ~bits.word(player, w);
+                for (long m = added; m != 0; m &= m - 1) {
+                    board.getHexagon((w << 6) | Long.numberOfTrailingZeros(m)).setOwner(BitBoard.playerName(player));
+                }
+            }
+        }
+        currentPlayer = position.getCurrentPlayer();
+        gameOver = position.getGameOver();
+    }
+
     /**
      * Handles currentPlayer moves
-     * @param hex The hexagon to place on the board
+     * @param hex The hexagon to place on the board. A hexagon created outside
+     *            the board is resolved to the board cell with the same
+     *            coordinates and receives the same owner.
      */
     public void handleMove(Hexagon hex) {
+        MoveEvent event = new MoveEvent();
+        event.begin();
+        long start = RulesMetrics.ENABLED ? System.nanoTime() : 0;
+        try {
+            play(hex, event);
+        } catch (IllegalArgumentException e) {
+            event.rejected = true;
+            throw e;
+        } finally {
+            if (RulesMetrics.ENABLED) RulesMetrics.INSTANCE.handleMove.record(System.nanoTime() - start);
+            event.commit();
+        }
+    }
+
+    /** Body of {@link #handleMove}, describing the move in {@code event} when it is recorded. */
+    private void play(Hexagon hex, MoveEvent event) {
+        if (event.isEnabled()) {
+            event.player = currentPlayer;
+            event.cell = PASS;
+        }
         // Check currentPLayer has valid moves
         if (!hasValidMoves()) {
-            switchTurn();
-            if (gui != null) { // For avoiding null pointer exception.
-                gui.showPassTurnMessage("No valid moves available. Current turn passed to " + currentPlayer);
-            }
+            passTurn();
             return;
         }
 
-        // If hex is already owned
-        if (hex.getOwner() != null) {
+        Hexagon cell = getBoardHex(hex);
+        // If hex is off the board or already owned
+        if (cell == null || hex.getOwner() != null || cell.getOwner() != null) {
             throw new IllegalArgumentException("Invalid Cell Placement -> " + hex);
         }
-        // Look for hexagons to capture, return true if captured hexagons are erased
-        boolean capMove = eraseHexagons((captureMove(hex)));
+        // Placing next to an own group must capture
+        int captured = place(cell.getId(), null);
+        boolean capMove = captured > 0;
+        if (hex != cell) {
+            hex.setOwner(currentPlayer);
+        }
+        if (RulesMetrics.ENABLED && capMove) {
+            RulesMetrics.INSTANCE.captures.increment();
+            RulesMetrics.INSTANCE.capturedCells.add(captured);
+        }
+        if (event.isEnabled()) {
+            event.cell = cell.getId();
+            event.captured = captured;
+            event.groupSize = board.getGroups().groupSize(cell.getId());
+            event.turnKept = capMove;
+        }
 
         // Win - all opponent's hexagons captured
         if (capMove && checkWin(currentPlayer)) {
-            hex.setOwner(currentPlayer);
+            if (RulesMetrics.ENABLED) RulesMetrics.INSTANCE.wins.increment();
+            event.win = true;
             setGameOver(true);
             if (gui != null) { // For avoiding null pointer exception.
                 gui.updateTurnIndicator();
@@ -59,116 +201,146 @@ public class Controller {
             return;
         }
 
-        if (ownsNeighbor(hex) && !capMove) {
-            throw new IllegalArgumentException("Invalid Cell Placement -> " + hex);
-        } else {
-            // Valid hex placement
-            hex.setOwner(currentPlayer);
-            if (!capMove) {
-                switchTurn();
+        if (!capMove) {
+            switchTurn();
+        }
+    }
+
+    /**
+     * Plays a move for the current player without notifying the GUI, with the
+     * same rules as {@link #handleMove}: a capture keeps the turn, capturing
+     * the last opponent cell ends the game, and {@link #PASS} is only allowed
+     * when the player has no valid move.
+     * @param cell the cell id to place on, or {@link #PASS}.
+     * @return a record for {@link #unmakeMove(UndoRecord)}.
+     * @throws IllegalArgumentException if the move is not valid.
+     */
+    public UndoRecord makeMove(int cell) {
+        return makeMove(cell, new UndoRecord());
+    }
+
+    /**
+     * {@link #makeMove(int)} filling the given record instead of a new one.
+     * @return {@code undo}.
+     */
+    public UndoRecord makeMove(int cell, UndoRecord undo) {
+        if (gameOver) {
+            throw new IllegalStateException("Game is over");
+        }
+        undo.cell = cell;
+        undo.capturedCount = 0;
+        undo.previousPlayer = currentPlayer;
+        undo.previousGameOver = gameOver;
+        if (cell == PASS) {
+            if (hasValidMoves()) {
+                throw new IllegalArgumentException("Can't pass with valid moves available");
             }
+            currentPlayer = opponentName();
+            return undo;
+        }
+        if (cell < 0 || cell >= board.cellCount() || bits.owner(cell) != BitBoard.NONE) {
+            throw new IllegalArgumentException("Invalid Cell Placement -> " + cell);
+        }
+        if (place(cell, undo) == 0) {
+            currentPlayer = opponentName();
+        } else if (checkWin(currentPlayer)) {
+            gameOver = true;
         }
+        return undo;
     }
 
     /**
-     * Checks if any neighbor of the given hexagon is owned by the current player.
-     * @param hex The hexagon to check around.
-     * @return true if at least one neighbor is owned by the current player, false otherwise.
+     * Takes back the last move made with {@link #makeMove}. Records must be
+     * undone in the reverse order of the moves.
      */
-    public boolean ownsNeighbor(Hexagon hex) {
-        // Check 6 neighboring hexagons
-        for (int i = 0; i < 6; i++) {
-            Hexagon neighbor = hex.neighbor(i);
-            // Search board for the hex with matching coordinates
-            for (Hexagon targetNeighbor : board.getHexagons()) {
-                if (targetNeighbor.q == neighbor.q &&
-                    targetNeighbor.r == neighbor.r &&
-                    targetNeighbor.s == neighbor.s) {
-
-                    if (currentPlayer.equals(targetNeighbor.getOwner())) {
-                        return true;
-                    }
-                    break;
+    public void unmakeMove(UndoRecord undo) {
+        if (undo.cell != PASS) {
+            board.getHexagon(undo.cell).setOwner(null);
+            if (undo.capturedCount > 0) {
+                String opponent = undo.previousPlayer.equals("RED") ? "BLUE" : "RED";
+                for (int i = 0; i < undo.capturedCount; i++) {
+                    board.getHexagon(undo.captured[i]).setOwner(opponent);
                 }
             }
         }
-        return false;
+        currentPlayer = undo.previousPlayer;
+        gameOver = undo.previousGameOver;
     }
 
     /**
-     * Compares nearby grouped hexagons and their owners to check for a capture move.
-     * @param placedHex The hexagon that may invoke a capture move
-     * @return HashSet of all opponent hexagons to erase (captured). Returns empty set if move is invalid.
+     * Places the current player on the empty {@code cell} and erases the
+     * captured opponent cells. Neither the turn nor the game‑over flag is
+     * changed.
+     * @param undo where to record the captures, or null.
+     * @return the number of captured cells.
      */
-    public HashSet<Hexagon> captureMove(Hexagon placedHex) {
-        // Simulate the placement
-        placedHex.setOwner(currentPlayer);
-        HashSet<Hexagon> currentGroup = getConnectedGroup(placedHex, currentPlayer);
+    private int place(int cell, UndoRecord undo) {
+        int player = currentPlayerIndex();
+        int result = rules.captureMove(player, cell);
+        if (result == BitRules.INVALID) {
+            throw new IllegalArgumentException("Invalid Cell Placement -> " + board.getHexagon(cell));
+        }
+        if (undo != null) {
+            undo.captured(rules.captured, rules.capturedCount);
+        }
+        eraseHexagons(cell, rules.captured, rules.capturedCount);
 
-        String opponent = currentPlayer.equals("RED") ? "BLUE" : "RED";
+        // Valid hex placement
+        board.getHexagon(cell).setOwner(currentPlayer);
+        return result;
+    }
 
-        // Early‑exit; size conflict between the two player's groups
-        if (hasSizeConflict(placedHex, currentGroup, opponent)) {
-            placedHex.setOwner(null); // reset simulation
-            return new HashSet<>(); // invalid - no capture
+    /**
+     * Passes the turn of a player left without valid moves, as
+     * {@link #handleMove} does, and tells the GUI if there is one.
+     */
+    public void passTurn() {
+        if (RulesMetrics.ENABLED) RulesMetrics.INSTANCE.passes.increment();
+        PassEvent event = new PassEvent();
+        if (event.isEnabled()) {
+            event.player = currentPlayer;
+            event.stones = bits.count(currentPlayerIndex());
+            event.commit();
+        }
+        switchTurn();
+        if (gui != null) { // For avoiding null pointer exception.
+            gui.showPassTurnMessage("No valid moves available. Current turn passed to " + currentPlayer);
         }
-        // Normal capture logic
-        HashSet<Hexagon> capturedSet = findCapturedHexagons(currentGroup, opponent);
-
-        placedHex.setOwner(null); // reset simulation
-        return capturedSet;
     }
 
     /**
-     * Checks if the placed hex joins an existing group, that every adjacent opponent
-     * group the new hex touches is strictly smaller; otherwise the
-     * move is invalid.
-     * @return true if there is a size conflict, false otherwise
+     * Checks if any neighbor of the given hexagon is owned by the current player.
+     * @param hex The hexagon to check around.
+     * @return true if at least one neighbor is owned by the current player, false otherwise.
      */
-    private boolean hasSizeConflict(Hexagon placedHex,
-                                      HashSet<Hexagon> currentGroup, String opponent) {
-        if (!ownsNeighbor(placedHex)) return false;
-        for (Hexagon hex : currentGroup) {
-            for (int dir = 0; dir < 6; dir++) {
-                Hexagon boardNeighbor = getBoardHex(hex.neighbor(dir));
-
-                if (boardNeighbor != null && opponent.equals(boardNeighbor.getOwner())) {
-                    HashSet<Hexagon> oppGroup = getConnectedGroup(boardNeighbor, opponent);
-                    if (oppGroup.size() >= currentGroup.size()) {
-                        return true; // invalid move – opponent group is larger
-                    }
-                }
+    public boolean ownsNeighbor(Hexagon hex) {
+        Hexagon cell = getBoardHex(hex);
+        if (cell != null) {
+            return rules.ownsNeighbor(currentPlayerIndex(), cell.getId());
+        }
+        // Off-board hexagon: it can still touch the rim of the board
+        for (Hexagon dir : Hexagon.DIRECTIONS) {
+            Hexagon neighbor = board.cellAt(hex.q + dir.q, hex.r + dir.r);
+            if (neighbor != null && currentPlayer.equals(neighbor.getOwner())) {
+                return true;
             }
         }
         return false;
     }
 
     /**
-     * Gathers all opponent groups that will be captured by the current move.
-     * Should be called after check for size conflicts.
+     * Compares nearby grouped hexagons and their owners to check for a capture move.
+     * The placement is evaluated on the bitboard; the board is not modified.
+     * @param placedHex The hexagon that may invoke a capture move
+     * @return HashSet of all opponent hexagons to erase (captured). Returns empty set if move is invalid.
      */
-    private HashSet<Hexagon> findCapturedHexagons(HashSet<Hexagon> currentGroup,
-                                                  String opponent) {
-
-        HashSet<Hexagon> captured = new HashSet<>();
-        HashSet<Hexagon> processed = new HashSet<>();
-
-        for (Hexagon hex : currentGroup) {
-            for (int dir = 0; dir < 6; dir++) {
-                Hexagon boardNeighbor = getBoardHex(hex.neighbor(dir));
-                if (boardNeighbor != null &&
-                    opponent.equals(boardNeighbor.getOwner()) &&
-                    !processed.contains(boardNeighbor)) {
-
-                    HashSet<Hexagon> oppGroup = getConnectedGroup(boardNeighbor, opponent);
-                    processed.addAll(oppGroup);
-
-                    if (currentGroup.size() > oppGroup.size()) {
-                        captured.addAll(oppGroup);
-                    }
-                }
-            }
-        }
+    public HashSet<Hexagon> captureMove(Hexagon placedHex) {
+        long start = RulesMetrics.ENABLED ? System.nanoTime() : 0;
+        Hexagon cell = getBoardHex(placedHex);
+        HashSet<Hexagon> captured = cell == null || rules.captureMove(currentPlayerIndex(), cell.getId()) <= 0
+                ? new HashSet<>() // invalid - no capture
+                : toSet(rules.captured, rules.capturedCount);
+        if (RulesMetrics.ENABLED) RulesMetrics.INSTANCE.captureMove.record(System.nanoTime() - start);
         return captured;
     }
 
@@ -180,26 +352,30 @@ public class Controller {
      * @return A HashSet of connected hexagons with the given owner.
      */
     public HashSet<Hexagon> getConnectedGroup(Hexagon start, String owner) {
-        HashSet<Hexagon> group = new HashSet<>();
-        Queue<Hexagon> queue = new LinkedList<>();
-        queue.add(start);
-        group.add(start);
-
-        while (!queue.isEmpty()) {
-            Hexagon current = queue.poll();
-            for (int i = 0; i < 6; i++) {
-                Hexagon neighbor = current.neighbor(i);
-                Hexagon boardNeighbor = getBoardHex(neighbor);
-                if (boardNeighbor != null && owner.equals(boardNeighbor.getOwner())
-                        && !group.contains(boardNeighbor)) {
-                    group.add(boardNeighbor);
-                    queue.add(boardNeighbor);
-                }
-            }
+        Hexagon cell = getBoardHex(start);
+        int player = BitBoard.playerIndex(owner);
+        if (cell == null || player == BitBoard.NONE) {
+            HashSet<Hexagon> group = new HashSet<>();
+            group.add(start);
+            return group;
         }
+        long begin = RulesMetrics.ENABLED ? System.nanoTime() : 0;
+        rules.connectedGroup(cell.getId(), player);
+        HashSet<Hexagon> group = toSet(rules.group, rules.groupCount);
+        if (RulesMetrics.ENABLED) RulesMetrics.INSTANCE.connectedGroup.record(System.nanoTime() - begin);
         return group;
     }
 
+    /**
+     * Size of the connected group containing the given hexagon, read from the
+     * board's group tracker in near‑constant time.
+     * @return the group size, or 0 if the hexagon is empty or off the board.
+     */
+    public int getGroupSize(Hexagon hex) {
+        Hexagon cell = getBoardHex(hex);
+        return cell == null ? 0 : board.getGroups().groupSize(cell.getId());
+    }
+
     /**
      * Helper method to find and return the actual hexagon from the board that matches the given hexagon's coords.
      * Helps with validation/out-of-bounds issues!
@@ -207,46 +383,134 @@ public class Controller {
      * @return The matching hexagon from the board, or null if not found.
      */
     private Hexagon getBoardHex(Hexagon h) {
-        for (Hexagon hex : board.getHexagons()) {
-            if (hex.q == h.q && hex.r == h.r && hex.s == h.s) {
-                return hex;
-            }
-        }
-        return null;
+        return board.cellAt(h.q, h.r);
     }
 
     /**
      * Erases all captured hexagons from the board.
-     * @param captured hashset of capture hexagons to erase.
+     * @param cell id of the capturing placement.
+     * @param captured ids of the captured hexagons to erase.
      * @return True if hexagons are erased, false otherwise.
      */
-    private boolean eraseHexagons(HashSet<Hexagon> captured) {
-        boolean captureOccurred = false;
-        for (Hexagon hex : captured) {
-            hex.setOwner(null);
-            captureOccurred = true;
+    private boolean eraseHexagons(int cell, int[] captured, int count) {
+        CaptureEvent event = new CaptureEvent();
+        if (count > 0 && event.isEnabled()) {
+            describeCapture(event, cell, captured, count);
+        }
+        event.begin();
+        board.clearOwners(captured, count);
+        if (count > 0) event.commit();
+        return count > 0;
+    }
+
+    /** Fills {@code event} from the captured cells, before they are erased. */
+    private void describeCapture(CaptureEvent event, int cell, int[] captured, int count) {
+        event.cell = cell;
+        event.player = currentPlayer;
+        event.captured = count;
+        int[] roots = new int[count];
+        for (int i = 0; i < count; i++) {
+            int root = board.getGroups().find(captured[i]);
+            boolean seen = false;
+            for (int g = 0; g < event.groups && !seen; g++) {
+                seen = roots[g] == root;
+            }
+            if (!seen) {
+                roots[event.groups++] = root;
+                event.largestGroup = Math.max(event.largestGroup, board.getGroups().groupSize(root));
+            }
         }
-        return captureOccurred;
     }
 
     /**
-     * Makes a list of all valid moves the currentPLayer can make on the board
+     * Makes a list of all valid moves the currentPLayer can make on the board.
+     * Answers come from a cache that only re‑evaluates cells near the last changes.
      * @return Valid move list.
      */
     public List<Hexagon> getValidMoves() {
-        List<Hexagon> validMoves = new ArrayList<>();
-        for (Hexagon hex : board.getHexagons()) {
-            // Hex cant be owned, and if ownsNeighbor - then must be a capture.
-            if (hex.getOwner() == null &&
-                    ownsNeighbor(hex) ^ captureMove(hex).isEmpty()) {
-                validMoves.add(hex);
+        long start = RulesMetrics.ENABLED ? System.nanoTime() : 0;
+        List<Hexagon> moves = new ArrayList<>();
+        int player = currentPlayerIndex();
+        long[] valid = validMoves.valid(player);
+        for (int w = 0; w < valid.length; w++) {
+            for (long m = valid[w]; m != 0; m &= m - 1) {
+                moves.add(board.getHexagon((w << 6) | Long.numberOfTrailingZeros(m)));
             }
         }
-        return validMoves;
+        if (RulesMetrics.ENABLED) RulesMetrics.INSTANCE.validMoves.record(System.nanoTime() - start);
+        return moves;
     }
 
+    /**
+     * Id form of {@link #getValidMoves()} for simulations: writes the cell
+     * ids of the current player's valid moves into {@code out}, in board
+     * order, without building hexagon lists.
+     * @param out at least {@link Board#cellCount()} long.
+     * @return the number of valid moves.
+     */
+    public int getValidMoveIds(int[] out) {
+        int count = 0;
+        long[] valid = validMoves.valid(currentPlayerIndex());
+        for (int w = 0; w < valid.length; w++) {
+            for (long m = valid[w]; m != 0; m &= m - 1) {
+                out[count++] = (w << 6) | Long.numberOfTrailingZeros(m);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Read‑only live view of the current player's valid moves. It follows
+     * turn changes and moves without being fetched again, and
+     * {@code contains} is a constant‑time cache lookup.
+     */
+    public Set<Hexagon> getValidMoveView() {
+        return validMoveView;
+    }
+
+    /**
+     * @return true if the current player may place on the given hexagon.
+     */
+    public boolean isValidMove(Hexagon hex) {
+        Hexagon cell = getBoardHex(hex);
+        return cell != null && validMoves.isValid(currentPlayerIndex(), cell.getId());
+    }
+
+    /** Id form of {@link #isValidMove(Hexagon)}. */
+    public boolean isValidMove(int cell) {
+        return validMoves.isValid(currentPlayerIndex(), cell);
+    }
+
+    /**
+     * Checks many candidate moves for the current player at once, without
+     * playing them or throwing: for each of {@code cells[0..count)} (cell
+     * ids, or {@link #PASS}) whether {@link #makeMove(int)} would accept it,
+     * what it would capture and whether the player would keep the turn. Group
+     * work is shared by the whole batch; see {@link BitRules#checkMoves}.
+     * Every candidate is illegal once the game is over.
+     * @param out reused for the answers.
+     * @return {@code out}.
+     */
+    public MoveBatch checkMoves(int[] cells, int count, MoveBatch out) {
+        rules.checkMoves(currentPlayerIndex(), cells, count, out);
+        if (gameOver) {
+            Arrays.fill(out.captured, 0, count, MoveBatch.ILLEGAL);
+            Arrays.fill(out.rootStart, 0, count + 1, 0);
+            out.legalCount = 0;
+        }
+        return out;
+    }
+
+    /** {@link #checkMoves(int[], int, MoveBatch)} of all of {@code cells} into a new batch. */
+    public MoveBatch checkMoves(int... cells) {
+        return checkMoves(cells, cells.length, new MoveBatch());
+    }
+
+    /**
+     * Checks the current player has at least one valid move, stopping at the first one found.
+     */
     public boolean hasValidMoves() {
-        return !(getValidMoves().isEmpty());
+        return validMoves.hasValidMove(currentPlayerIndex());
     }
 
     /**
@@ -255,13 +519,8 @@ public class Controller {
      * @return true if the player has won, false otherwise.
      */
     public boolean checkWin(String player) {
-        String opponent = player.equals("RED") ? "BLUE" : "RED";
-        for (Hexagon hex : board.getHexagons()) {
-            if (opponent.equals(hex.getOwner())) {
-                return false;
-            }
-        }
-        return true;
+        int opponent = player.equals("RED") ? BitBoard.BLUE : BitBoard.RED;
+        return bits.count(opponent) == 0;
     }
 
     public void switchTurn() {
@@ -271,6 +530,42 @@ public class Controller {
         }
     }
 
+    private String opponentName() {
+        return currentPlayer.equals("RED") ? "BLUE" : "RED";
+    }
+
+    private int currentPlayerIndex() {
+        return currentPlayer.equals("RED") ? BitBoard.RED : BitBoard.BLUE;
+    }
+
+    /** Converts a list of cell ids into the board's hexagons. */
+    private HashSet<Hexagon> toSet(int[] ids, int count) {
+        HashSet<Hexagon> set = new HashSet<>(count * 2);
+        for (int i = 0; i < count; i++) {
+            set.add(board.getHexagon(ids[i]));
+        }
+        return set;
+    }
+
+    /** Set view over the valid‑move cache for whoever is the current player. */
+    private final class ValidMoveView extends AbstractSet<Hexagon> {
+        @Override public boolean contains(Object o) {
+            return o instanceof Hexagon && isValidMove((Hexagon) o);
+        }
+
+        @Override public int size() {
+            return validMoves.count(currentPlayerIndex());
+        }
+
+        @Override public boolean isEmpty() {
+            return !hasValidMoves();
+        }
+
+        @Override public Iterator<Hexagon> iterator() {
+            return Collections.unmodifiableList(getValidMoves()).iterator();
+        }
+    }
+
 
     public boolean getGameOver() {
         return gameOver;
@@ -285,6 +580,17 @@ public class Controller {
     public Board getBoard() {
         return board;
     }
+    /**
+     * Zobrist key of the position: the board's hash with the side to move
+     * folded in. Maintained incrementally, so reading it is O(1).
+     */
+    public long getHash() {
+        return currentPlayer.equals("BLUE") ? board.getHash() ^ Zobrist.BLUE_TO_MOVE : board.getHash();
+    }
+    /** Rules engine of this game's board, for id‑based queries. Not thread safe. */
+    public BitRules getRules() {
+        return rules;
+    }
     public void setGUI(GUI gui) {
         this.gui = gui;
     }
@@ -0,0 +1,117 @@
+package Controller;
+
+import java.util.Arrays;
+
+/**
+ * Answers of a {@link Controller#checkMoves(int[], int, MoveBatch)} call:
+ * for each candidate cell, in the order given, whether the player to move
+ * may play it, how many opponent cells it would capture, whether the player
+ * would keep the turn and whether it would win.
+ *
+ * <p>Same rules as {@link Controller#makeMove(int)}: an illegal candidate
+ * is one that call would reject, a capture keeps the turn, and capturing
+ * the last opponent cell wins. {@link Controller#PASS} is legal only when
+ * the player has no valid move.</p>
+ *
+ * <h6>Captured cells</h6>
+ * Each legal capture is stored as the roots of the opponent groups it
+ * takes, and the batch keeps the opponent cells sorted by group (labelled
+ * once per batch, whatever the number of candidates), so
+ * {@link #getCaptured(int, int[])} copies whole groups without a flood fill.
+ * The answers describe the position at the time of the check; they are not
+ * updated when the game moves on.
+ *
+ * <p>A batch can be reused for any number of checks; its arrays only grow,
+ * so a bot that keeps one batch allocates nothing once warmed up.</p>
+ */
+public final class MoveBatch {
+    /** {@link #getCapturedCount(int)} of a candidate that may not be played. */
+    public static final int ILLEGAL = -1;
+
+    int count;
+    int[] cells = new int[0];
+    int[] captured = new int[0];   // captured cell count or ILLEGAL, per candidate
+    int[] rootStart = new int[1];  // candidate i took groups rootPool[rootStart[i]..rootStart[i + 1])
+    int[] rootPool = new int[0];
+    int[] groupStart = new int[0]; // opponent cells of group root r: members[groupStart[r]..groupStart[r] + size)
+    int[] groupSize = new int[0];
+    int[] members = new int[0];
+    int opponentCells;
+    int legalCount;
+
+    /** @return the number of candidates checked. */
+    public int size() {
+        return count;
+    }
+
+    /** @return the {@code i}th candidate cell id, or {@link Controller#PASS}. */
+    public int getCell(int i) {
+        return cells[i];
+    }
+
+    /** @return the number of candidates that may be played. */
+    public int legalCount() {
+        return legalCount;
+    }
+
+    public boolean isLegal(int i) {
+        return captured[i] != ILLEGAL;
+    }
+
+    /** @return cells the {@code i}th candidate would capture, or {@link #ILLEGAL}. */
+    public int getCapturedCount(int i) {
+        return captured[i];
+    }
+
+    /** @return true if playing the {@code i}th candidate keeps the turn (it captures). */
+    public boolean keepsTurn(int i) {
+        return captured[i] > 0;
+    }
+
+    /** @return true if the {@code i}th candidate captures every opponent cell. */
+    public boolean wins(int i) {
+        return captured[i] > 0 && captured[i] == opponentCells;
+    }
+
+    /**
+     * Copies the cells the {@code i}th candidate would capture into
+     * {@code out}, group by group.
+     * @return the number of cells copied, 0 if it captures none or is illegal.
+     */
+    public int getCaptured(int i, int[] out) {
+        int n = 0;
+        for (int k = rootStart[i]; k < rootStart[i + 1]; k++) {
+            int root = rootPool[k];
+            System.arraycopy(members, groupStart[root], out, n, groupSize[root]);
+            n += groupSize[root];
+        }
+        return n;
+    }
+
+    /** Sizes the arrays for {@code count} candidates on a board of {@code cellCount} cells. */
+    void reset(int[] candidates, int count, int cellCount) {
+        this.count = count;
+        if (cells.length < count) {
+            int grown = Math.max(count, 2 * cells.length);
+            cells = new int[grown];
+            captured = new int[grown];
+            rootStart = new int[grown + 1];
+        }
+        System.arraycopy(candidates, 0, cells, 0, count);
+        if (groupStart.length < cellCount) {
+            groupStart = new int[cellCount];
+            groupSize = new int[cellCount];
+            members = new int[cellCount];
+        }
+        rootStart[0] = 0;
+        legalCount = 0;
+    }
+
+    /** Appends a captured group root for the current candidate. */
+    void addRoot(int end, int root) {
+        if (end == rootPool.length) {
+            rootPool = Arrays.copyOf(rootPool, Math.max(16, 2 * end));
+        }
+        rootPool[end] = root;
+    }
+}
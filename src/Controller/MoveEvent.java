@@ -0,0 +1,49 @@
+package Controller;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for one {@link Controller#handleMove} call, timed
+ * from the call to its return, so slow moves line up with GC pauses and CPU
+ * samples in the same recording.
+ *
+ * <p>Like every JFR event it is only written while a recording has it
+ * enabled; otherwise {@code commit} is a no‑op and the JIT removes the
+ * event object.</p>
+ */
+@Name("hexoust.Move")
+@Label("Move")
+@Category({"HexOust", "Rules"})
+@Description("A move played through Controller.handleMove")
+@StackTrace(false)
+final class MoveEvent extends Event {
+    @Label("Cell")
+    @Description("Cell id placed on, -1 for a pass")
+    int cell;
+
+    @Label("Player")
+    String player;
+
+    @Label("Captured")
+    @Description("Opponent cells captured")
+    int captured;
+
+    @Label("Group Size")
+    @Description("Size of the mover's group containing the placed cell")
+    int groupSize;
+
+    @Label("Turn Kept")
+    boolean turnKept;
+
+    @Label("Win")
+    boolean win;
+
+    @Label("Rejected")
+    @Description("The placement was invalid and nothing changed")
+    boolean rejected;
+}
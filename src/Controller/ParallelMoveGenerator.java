@@ -0,0 +1,128 @@
+package Controller;
+
+import Model.BitBoard;
+import Model.Board;
+import Model.GroupTracker;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Valid‑move generation split over cores for large boards.
+ *
+ * <p>The cells to evaluate are cut into ranges of 64‑cell words and handed
+ * to a {@link ForkJoinPool}. Each worker evaluates its range with its own
+ * read‑only {@link BitRules} (its own flood‑fill stack and memo), reading
+ * the shared {@link BitBoard} and {@link GroupTracker} without writing to
+ * them: the group forest is compressed once up front and then only read
+ * through {@link GroupTracker#peekRoot}. Each word of the result is written
+ * by exactly one worker, so no locking is needed. The board must not change
+ * while a generation runs.</p>
+ *
+ * <h6>Threshold</h6>
+ * Forking costs a few tens of microseconds, which only pays off once there
+ * are thousands of cells to evaluate; below {@link #DEFAULT_THRESHOLD} cells
+ * the work runs on the calling thread, as it does when the pool has a single
+ * thread. After a move the {@link ValidMoveCache} only re‑evaluates a few
+ * dozen cells, so in practice the parallel path serves full evaluations of
+ * base‑40 and larger boards: a new game, a loaded position, a big capture.
+ */
+public final class ParallelMoveGenerator {
+    /** Cells to evaluate below which the work is not split. */
+    public static final int DEFAULT_THRESHOLD = 4096;
+    /** Words (64 cells each) evaluated by one task. */
+    static final int GRAIN_WORDS = 8;
+
+    private final Board board;
+    private final BitRules local;
+    private final ForkJoinPool pool;
+    private final int threshold;
+    private final ConcurrentLinkedQueue<BitRules> idle = new ConcurrentLinkedQueue<>();
+
+    /**
+     * @param local     rules used on the calling thread below the threshold.
+     * @param threshold cells to evaluate from which the work is split.
+     */
+    public ParallelMoveGenerator(Board board, BitRules local, ForkJoinPool pool, int threshold) {
+        this.board = board;
+        this.local = local;
+        this.pool = pool;
+        this.threshold = threshold;
+    }
+
+    public ParallelMoveGenerator(Board board) {
+        this(board, new BitRules(board), ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Every valid placement for {@code player}, as
+     * {@link BitRules#validMoves(int, long[])}.
+     * @return the number of valid moves.
+     */
+    public int validMoves(int player, long[] out) {
+        BitBoard bits = board.getBitBoard();
+        long[] all = new long[bits.words()];
+        for (int w = 0; w < all.length; w++) {
+            all[w] = bits.fullWord(w);
+        }
+        validMoves(player, all, out);
+        int count = 0;
+        for (long word : out) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    /**
+     * Re‑evaluates only the cells set in {@code cells}, as
+     * {@link BitRules#validMoves(int, long[], long[])}.
+     */
+    public void validMoves(int player, long[] cells, long[] out) {
+        BitBoard bits = board.getBitBoard();
+        int todo = 0;
+        for (int w = 0; w < cells.length; w++) {
+            todo += Long.bitCount(cells[w] & bits.emptyWord(w));
+        }
+        if (todo < threshold || pool.getParallelism() < 2) {
+            local.validMoves(player, cells, out);
+            return;
+        }
+        board.getGroups().compress();
+        pool.invoke(new Range(player, cells, out, 0, cells.length));
+    }
+
+    /** One range of words, split in halves down to {@link #GRAIN_WORDS}. */
+    private final class Range extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int player;
+        private final long[] cells;
+        private final long[] out;
+        private final int from;
+        private final int to;
+
+        Range(int player, long[] cells, long[] out, int from, int to) {
+            this.player = player;
+            this.cells = cells;
+            this.out = out;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= GRAIN_WORDS) {
+                BitRules rules = idle.poll();
+                if (rules == null) {
+                    rules = new BitRules(board, true);
+                }
+                rules.validMoves(player, cells, out, from, to);
+                idle.add(rules);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new Range(player, cells, out, from, mid), new Range(player, cells, out, mid, to));
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package Controller;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for a player left without a valid move passing the
+ * turn through {@link Controller#passTurn()}.
+ */
+@Name("hexoust.Pass")
+@Label("Pass")
+@Category({"HexOust", "Rules"})
+@Description("A turn passed for lack of valid moves")
+@StackTrace(false)
+final class PassEvent extends Event {
+    @Label("Player")
+    @Description("Player who passed")
+    String player;
+
+    @Label("Stones")
+    @Description("Cells the passing player owns")
+    int stones;
+}
@@ -0,0 +1,365 @@
+package Controller;
+
+import Model.BitBoard;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Immutable snapshot of a game: who owns each cell, the player to move and
+ * the game‑over flag.
+ *
+ * <p>A {@link Controller}, its {@link Model.Board} and the board's
+ * {@link Model.Hexagon}s are mutable and belong to the thread that plays
+ * the game (the Swing EDT for the GUI). A position taken with
+ * {@link Controller#snapshot()} can instead be handed to any thread, cache
+ * or queue without locking: every field is final and nothing it holds is
+ * ever written after construction.</p>
+ *
+ * <h6>Structural sharing</h6>
+ * Ownership is kept as the board's {@link BitBoard} words, split into
+ * chunks of {@value #CHUNK_WORDS} words (512 cells). A chunk is never
+ * modified once published, so positions share every chunk they have in
+ * common:
+ * <ul>
+ *   <li>{@link #play(int)} copies only the chunks holding the placed and
+ *       captured cells (path copying); the rest are shared with the
+ *       parent,</li>
+ *   <li>{@link Controller#snapshot()} reuses the chunks of the game's
+ *       previous snapshot that are still current.</li>
+ * </ul>
+ *
+ * <h6>Successors</h6>
+ * {@link #play(int)} applies the rules on a per‑thread scratch
+ * {@link Controller}, one per board size: it loads this position, makes the move, reads off
+ * what changed from the {@link UndoRecord} and unmakes it again, so
+ * expanding the successors of one position only rewrites a few cells.
+ */
+public final class Position {
+    static final int CHUNK_WORDS = 8;
+    private static final int CHUNK_SHIFT = 3;
+
+    private static final ThreadLocal<Map<Integer, Scratch>> SCRATCH = ThreadLocal.withInitial(HashMap::new);
+
+    private final int size;
+    private final int cellCount;
+    private final int words;
+    private final long[][] red;
+    private final long[][] blue;
+    private final int redCount;
+    private final int blueCount;
+    private final int player;
+    private final boolean gameOver;
+    private final long hash;
+
+    private Position(int size, int cellCount, long[][] red, long[][] blue, int redCount, int blueCount,
+                     int player, boolean gameOver, long hash) {
+        this.size = size;
+        this.cellCount = cellCount;
+        this.words = (cellCount + 63) >>> 6;
+        this.red = red;
+        this.blue = blue;
+        this.redCount = redCount;
+        this.blueCount = blueCount;
+        this.player = player;
+        this.gameOver = gameOver;
+        this.hash = hash;
+    }
+
+    /**
+     * Snapshot of {@code game}, reusing the chunks of {@code previous} (a
+     * position of the same board size, or null) that still match.
+     */
+    static Position of(Controller game, Position previous) {
+        BitBoard bits = game.getBoard().getBitBoard();
+        if (previous != null && previous.size != game.getBoard().getSize()) {
+            previous = null;
+        }
+        return new Position(game.getBoard().getSize(), bits.cellCount(),
+                chunks(bits, BitBoard.RED, previous == null ? null : previous.red),
+                chunks(bits, BitBoard.BLUE, previous == null ? null : previous.blue),
+                bits.count(BitBoard.RED), bits.count(BitBoard.BLUE),
+                BitBoard.playerIndex(game.getCurrentPlayer()), game.getGameOver(), game.getHash());
+    }
+
+    private static long[][] chunks(BitBoard bits, int player, long[][] reuse) {
+        int words = bits.words();
+        long[][] chunks = new long[(words + CHUNK_WORDS - 1) >>> CHUNK_SHIFT][];
+        for (int c = 0; c < chunks.length; c++) {
+            int from = c << CHUNK_SHIFT;
+            int length = Math.min(CHUNK_WORDS, words - from);
+            long[] old = reuse == null ? null : reuse[c];
+            boolean same = old != null;
+            for (int i = 0; same && i < length; i++) {
+                same = old[i] == bits.word(player, from + i);
+            }
+            if (same) {
+                chunks[c] = old;
+            } else {
+                long[] chunk = new long[length];
+                for (int i = 0; i < length; i++) {
+                    chunk[i] = bits.word(player, from + i);
+                }
+                chunks[c] = chunk;
+            }
+        }
+        return chunks;
+    }
+
+    /**
+     * The position after the player to move plays {@code move}, a cell id or
+     * {@link Controller#PASS}, under the same rules as
+     * {@link Controller#makeMove(int)}. This position is unchanged.
+     * @throws IllegalArgumentException if the move is not valid here.
+     * @throws IllegalStateException if the game is over.
+     */
+    public Position play(int move) {
+        Scratch scratch = scratch();
+        Controller game = scratch.game;
+        UndoRecord undo = scratch.undo;
+        game.makeMove(move, undo);
+        try {
+            long[][] nextRed = red.clone();
+            long[][] nextBlue = blue.clone();
+            if (move != Controller.PASS) {
+                set(nextRed, red, nextBlue, blue, move, player);
+                for (int i = 0; i < undo.capturedCount; i++) {
+                    set(nextRed, red, nextBlue, blue, undo.captured[i], BitBoard.NONE);
+                }
+            }
+            int captured = undo.capturedCount;
+            int nextRedCount = redCount + (move == Controller.PASS ? 0
+                    : player == BitBoard.RED ? 1 : -captured);
+            int nextBlueCount = blueCount + (move == Controller.PASS ? 0
+                    : player == BitBoard.BLUE ? 1 : -captured);
+            return new Position(size, cellCount, nextRed, nextBlue, nextRedCount, nextBlueCount,
+                    BitBoard.playerIndex(game.getCurrentPlayer()), game.getGameOver(), game.getHash());
+        } finally {
+            game.unmakeMove(undo);
+        }
+    }
+
+    /**
+     * Sets the owner of {@code id} in the successor's chunks, copying a chunk
+     * the first time it is written (while it is still shared with the parent).
+     */
+    private static void set(long[][] red, long[][] parentRed, long[][] blue, long[][] parentBlue,
+                            int id, int owner) {
+        int w = id >>> 6;
+        long bit = 1L << id;
+        writable(red, parentRed, w)[w & (CHUNK_WORDS - 1)] &= ~bit;
+        writable(blue, parentBlue, w)[w & (CHUNK_WORDS - 1)] &= ~bit;
+        if (owner != BitBoard.NONE) {
+            long[][] chunks = owner == BitBoard.RED ? red : blue;
+            chunks[w >>> CHUNK_SHIFT][w & (CHUNK_WORDS - 1)] |= bit;
+        }
+    }
+
+    private static long[] writable(long[][] chunks, long[][] parent, int w) {
+        int c = w >>> CHUNK_SHIFT;
+        if (chunks[c] == parent[c]) {
+            chunks[c] = parent[c].clone();
+        }
+        return chunks[c];
+    }
+
+    /**
+     * Ids of the valid moves for the player to move, in ascending order;
+     * empty when the player must pass or the game is over.
+     */
+    public int[] validMoves() {
+        if (gameOver) return new int[0];
+        Controller game = scratch().game;
+        int[] moves = new int[cellCount];
+        return Arrays.copyOf(moves, game.getValidMoveIds(moves));
+    }
+
+    /** @return true if the player to move has at least one valid move. */
+    public boolean hasValidMoves() {
+        return !gameOver && scratch().game.hasValidMoves();
+    }
+
+    /**
+     * {@link Controller#checkMoves(int[], int, MoveBatch)} for the player to
+     * move in this position.
+     */
+    public MoveBatch checkMoves(int[] cells, int count, MoveBatch out) {
+        return scratch().game.checkMoves(cells, count, out);
+    }
+
+    /**
+     * Text form of this position, read back by {@link #parse(String)}:
+     * {@code <size> <RED|BLUE> <cells>}, followed by {@code over} once the
+     * game has ended. Cells are listed in id order as {@code r} (RED) or
+     * {@code b} (BLUE), and a run of empty cells is written as its length,
+     * so the empty base‑7 board is {@code 7 RED 127}.
+     */
+    public String toText() {
+        StringBuilder text = new StringBuilder().append(size).append(' ').append(getCurrentPlayer()).append(' ');
+        int empty = 0;
+        for (int id = 0; id < cellCount; id++) {
+            int owner = getOwner(id);
+            if (owner == BitBoard.NONE) {
+                empty++;
+                continue;
+            }
+            if (empty > 0) text.append(empty);
+            empty = 0;
+            text.append(owner == BitBoard.RED ? 'r' : 'b');
+        }
+        if (empty > 0) text.append(empty);
+        return gameOver ? text.append(" over").toString() : text.toString();
+    }
+
+    /**
+     * Reads a position written by {@link #toText()}. Cell letters may be
+     * upper or lower case.
+     * @throws IllegalArgumentException if {@code text} is not a position.
+     */
+    public static Position parse(String text) {
+        String[] fields = text.trim().split("\\s+");
+        if (fields.length < 3 || fields.length > 4 || (fields.length == 4 && !fields[3].equals("over"))) {
+            throw new IllegalArgumentException("Invalid position -> " + text);
+        }
+        if (!fields[1].equals("RED") && !fields[1].equals("BLUE")) {
+            throw new IllegalArgumentException("Invalid player -> " + fields[1]);
+        }
+        int size;
+        try {
+            size = Integer.parseInt(fields[0]);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid board size -> " + fields[0]);
+        }
+        if (size < 1 || size > 0xFFFF) {
+            throw new IllegalArgumentException("Invalid board size -> " + size);
+        }
+        Controller game = new Controller(size);
+        String cells = fields[2];
+        int id = 0;
+        for (int i = 0; i < cells.length(); ) {
+            char ch = cells.charAt(i);
+            if (Character.isDigit(ch)) {
+                int end = i;
+                while (end < cells.length() && Character.isDigit(cells.charAt(end))) end++;
+                id += Integer.parseInt(cells.substring(i, end));
+                i = end;
+                continue;
+            }
+            String owner = ch == 'r' || ch == 'R' ? "RED" : ch == 'b' || ch == 'B' ? "BLUE" : null;
+            if (owner == null || id >= game.getBoard().cellCount()) {
+                throw new IllegalArgumentException("Invalid cells -> " + cells);
+            }
+            game.getBoard().getHexagon(id++).setOwner(owner);
+            i++;
+        }
+        if (id != game.getBoard().cellCount()) {
+            throw new IllegalArgumentException("Cells don't fill the board -> " + id + " of " + game.getBoard().cellCount());
+        }
+        game.setCurrentPlayer(fields[1]);
+        game.setGameOver(fields.length == 4);
+        return game.snapshot();
+    }
+
+    /** A new game, without a GUI, in this position. */
+    public Controller toController() {
+        Controller game = new Controller(size);
+        game.load(this);
+        return game;
+    }
+
+    /** The calling thread's scratch game for this size, loaded with this position. */
+    private Scratch scratch() {
+        Scratch scratch = SCRATCH.get().computeIfAbsent(size, s -> new Scratch(new Controller(s)));
+        if (scratch.loaded != this) {
+            scratch.game.load(this);
+            scratch.loaded = this;
+        }
+        return scratch;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public int cellCount() {
+        return cellCount;
+    }
+
+    /** @return the number of 64‑bit ownership words, as {@link BitBoard#words()}. */
+    public int words() {
+        return words;
+    }
+
+    /** @return word {@code w} of {@code player}'s cells, as {@link BitBoard#word(int, int)}. */
+    public long word(int player, int w) {
+        long[][] chunks = player == BitBoard.RED ? red : blue;
+        return chunks[w >>> CHUNK_SHIFT][w & (CHUNK_WORDS - 1)];
+    }
+
+    /** @return {@link BitBoard#RED}, {@link BitBoard#BLUE} or {@link BitBoard#NONE}. */
+    public int getOwner(int id) {
+        if ((word(BitBoard.RED, id >>> 6) & (1L << id)) != 0) return BitBoard.RED;
+        if ((word(BitBoard.BLUE, id >>> 6) & (1L << id)) != 0) return BitBoard.BLUE;
+        return BitBoard.NONE;
+    }
+
+    public int count(int player) {
+        return player == BitBoard.RED ? redCount : blueCount;
+    }
+
+    /** @return the player to move as a {@link BitBoard} index. */
+    public int getPlayer() {
+        return player;
+    }
+
+    public String getCurrentPlayer() {
+        return BitBoard.playerName(player);
+    }
+
+    public boolean getGameOver() {
+        return gameOver;
+    }
+
+    /** @return the same hash as {@link Controller#getHash()} gave for this position. */
+    public long getHash() {
+        return hash;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Position)) return false;
+        Position other = (Position) o;
+        if (size != other.size || player != other.player || gameOver != other.gameOver
+                || hash != other.hash || redCount != other.redCount || blueCount != other.blueCount) {
+            return false;
+        }
+        for (int c = 0; c < red.length; c++) {
+            if (red[c] != other.red[c] && !Arrays.equals(red[c], other.red[c])) return false;
+            if (blue[c] != other.blue[c] && !Arrays.equals(blue[c], other.blue[c])) return false;
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(hash);
+    }
+
+    @Override
+    public String toString() {
+        return "Position{size=" + size + ", RED=" + redCount + ", BLUE=" + blueCount
+                + ", toMove=" + getCurrentPlayer() + (gameOver ? ", over" : "") + "}";
+    }
+
+    private static final class Scratch {
+        final Controller game;
+        final UndoRecord undo = new UndoRecord();
+        Position loaded;
+
+        Scratch(Controller game) {
+            this.game = game;
+        }
+    }
+}
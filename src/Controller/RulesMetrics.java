@@ -0,0 +1,178 @@
+package Controller;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Process‑wide counters and latency histograms for the rules engine,
+ * published over JMX as {@value #OBJECT_NAME}.
+ *
+ * <h6>Off switch</h6>
+ * Metrics are off unless the JVM is started with
+ * {@code -Dhexoust.metrics=true}. {@link #ENABLED} is a static final read
+ * once, so with metrics off every {@code if (RulesMetrics.ENABLED)} block is
+ * dead code to the JIT: no clock reads, no counters, and {@link #INSTANCE}
+ * is null and nothing is registered.
+ *
+ * <h6>What is measured</h6>
+ * Latency of {@link Controller#handleMove}, {@link Controller#getValidMoves},
+ * {@link Controller#captureMove} and {@link Controller#getConnectedGroup};
+ * passes, captures, captured cells and wins of moves played through
+ * {@code handleMove}; and the cells visited by every flood fill of
+ * {@link BitRules}, including those of {@link Controller#makeMove} and of
+ * valid‑move evaluation. Compare the
+ * {@code handleMove} percentiles with a frame or request latency to tell
+ * whether rule evaluation is behind a spike.
+ *
+ * <p>Counters are {@link LongAdder}s, so games on many threads record
+ * without contending on one cache line.</p>
+ */
+public final class RulesMetrics implements RulesMetricsMBean {
+    /** Whether metrics are collected, from {@code -Dhexoust.metrics}. */
+    public static final boolean ENABLED = Boolean.getBoolean("hexoust.metrics");
+    public static final String OBJECT_NAME = "HexOust:type=RulesMetrics";
+    /** The registered metrics, or null when they are off. */
+    public static final RulesMetrics INSTANCE = ENABLED ? register(new RulesMetrics()) : null;
+
+    final Histogram handleMove = new Histogram();
+    final Histogram validMoves = new Histogram();
+    final Histogram captureMove = new Histogram();
+    final Histogram connectedGroup = new Histogram();
+    final LongAdder floodFillCells = new LongAdder();
+    final LongAdder captures = new LongAdder();
+    final LongAdder capturedCells = new LongAdder();
+    final LongAdder passes = new LongAdder();
+    final LongAdder wins = new LongAdder();
+
+    /**
+     * Log‑linear latency histogram: 8 buckets per power of two of
+     * nanoseconds, so a percentile is reported within 1/8 of its value.
+     */
+    public static final class Histogram {
+        private static final int SUB_BITS = 3;
+        private static final int SUB = 1 << SUB_BITS;
+        private final LongAdder[] buckets = new LongAdder[(64 - SUB_BITS + 1) * SUB];
+        private final LongAdder count = new LongAdder();
+        private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+        public Histogram() {
+            for (int i = 0; i < buckets.length; i++) {
+                buckets[i] = new LongAdder();
+            }
+        }
+
+        public void record(long nanos) {
+            long v = Math.max(0, nanos);
+            buckets[index(v)].increment();
+            count.increment();
+            max.accumulate(v);
+        }
+
+        public long count() {
+            return count.sum();
+        }
+
+        public long max() {
+            return max.get();
+        }
+
+        /**
+         * @param p between 0 and 1.
+         * @return the largest value of the bucket holding the {@code p}
+         * quantile, capped at the maximum seen; 0 when empty.
+         */
+        public long percentile(double p) {
+            long total = count.sum();
+            if (total == 0) return 0;
+            long rank = Math.max(1, (long) Math.ceil(p * total));
+            long seen = 0;
+            for (int i = 0; i < buckets.length; i++) {
+                seen += buckets[i].sum();
+                if (seen >= rank) return Math.min(upperBound(i), max.get());
+            }
+            return max.get();
+        }
+
+        public void reset() {
+            for (LongAdder bucket : buckets) {
+                bucket.reset();
+            }
+            count.reset();
+            max.reset();
+        }
+
+        private static int index(long v) {
+            if (v < SUB) return (int) v;
+            int exp = 63 - Long.numberOfLeadingZeros(v);
+            int sub = (int) (v >>> (exp - SUB_BITS)) & (SUB - 1);
+            return (exp - SUB_BITS + 1) * SUB + sub;
+        }
+
+        private static long upperBound(int index) {
+            if (index < SUB) return index;
+            int exp = index / SUB + SUB_BITS - 1;
+            long width = 1L << (exp - SUB_BITS);
+            return ((SUB + (index & (SUB - 1))) << (exp - SUB_BITS)) + width - 1;
+        }
+    }
+
+    private RulesMetrics() {
+    }
+
+    private static RulesMetrics register(RulesMetrics metrics) {
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(metrics, new ObjectName(OBJECT_NAME));
+        } catch (JMException e) {
+            System.err.println("Rules metrics not registered -> " + e.getMessage());
+        }
+        return metrics;
+    }
+
+    private static double micros(long nanos) {
+        return nanos / 1000.0;
+    }
+
+    @Override public boolean isEnabled() { return ENABLED; }
+
+    @Override public long getHandleMoveCount() { return handleMove.count(); }
+    @Override public double getHandleMoveP50Micros() { return micros(handleMove.percentile(0.50)); }
+    @Override public double getHandleMoveP99Micros() { return micros(handleMove.percentile(0.99)); }
+    @Override public double getHandleMoveMaxMicros() { return micros(handleMove.max()); }
+
+    @Override public long getGetValidMovesCount() { return validMoves.count(); }
+    @Override public double getGetValidMovesP50Micros() { return micros(validMoves.percentile(0.50)); }
+    @Override public double getGetValidMovesP99Micros() { return micros(validMoves.percentile(0.99)); }
+    @Override public double getGetValidMovesMaxMicros() { return micros(validMoves.max()); }
+
+    @Override public long getCaptureMoveCount() { return captureMove.count(); }
+    @Override public double getCaptureMoveP50Micros() { return micros(captureMove.percentile(0.50)); }
+    @Override public double getCaptureMoveP99Micros() { return micros(captureMove.percentile(0.99)); }
+    @Override public double getCaptureMoveMaxMicros() { return micros(captureMove.max()); }
+
+    @Override public long getConnectedGroupCount() { return connectedGroup.count(); }
+    @Override public double getConnectedGroupP50Micros() { return micros(connectedGroup.percentile(0.50)); }
+    @Override public double getConnectedGroupP99Micros() { return micros(connectedGroup.percentile(0.99)); }
+    @Override public double getConnectedGroupMaxMicros() { return micros(connectedGroup.max()); }
+
+    @Override public long getFloodFillCells() { return floodFillCells.sum(); }
+    @Override public long getCaptures() { return captures.sum(); }
+    @Override public long getCapturedCells() { return capturedCells.sum(); }
+    @Override public long getPasses() { return passes.sum(); }
+    @Override public long getWins() { return wins.sum(); }
+
+    @Override
+    public void reset() {
+        handleMove.reset();
+        validMoves.reset();
+        captureMove.reset();
+        connectedGroup.reset();
+        floodFillCells.reset();
+        captures.reset();
+        capturedCells.reset();
+        passes.reset();
+        wins.reset();
+    }
+}
@@ -0,0 +1,48 @@
+package Controller;
+
+/**
+ * JMX view of {@link RulesMetrics}, registered as
+ * {@value RulesMetrics#OBJECT_NAME} when metrics are enabled.
+ *
+ * <p>Latencies are in microseconds, read from log‑linear histograms, so a
+ * percentile is reported within 1/8 of its value. Counts cover every
+ * {@link Controller} in the JVM since start or the last {@link #reset()}.</p>
+ */
+public interface RulesMetricsMBean {
+    boolean isEnabled();
+
+    long getHandleMoveCount();
+    double getHandleMoveP50Micros();
+    double getHandleMoveP99Micros();
+    double getHandleMoveMaxMicros();
+
+    long getGetValidMovesCount();
+    double getGetValidMovesP50Micros();
+    double getGetValidMovesP99Micros();
+    double getGetValidMovesMaxMicros();
+
+    long getCaptureMoveCount();
+    double getCaptureMoveP50Micros();
+    double getCaptureMoveP99Micros();
+    double getCaptureMoveMaxMicros();
+
+    long getConnectedGroupCount();
+    double getConnectedGroupP50Micros();
+    double getConnectedGroupP99Micros();
+    double getConnectedGroupMaxMicros();
+
+    /** Cells visited by the group flood fills of captures and group queries. */
+    long getFloodFillCells();
+
+    /** Moves played through {@code handleMove} that captured. */
+    long getCaptures();
+
+    long getCapturedCells();
+
+    long getPasses();
+
+    long getWins();
+
+    /** Zeroes every counter and histogram. */
+    void reset();
+}
@@ -0,0 +1,54 @@
+package Controller;
+
+/**
+ * What {@link Controller#makeMove(int)} changed, so that
+ * {@link Controller#unmakeMove(UndoRecord)} can restore the position exactly:
+ * the placed cell, the opponent cells it captured, and the player to move
+ * and game‑over flag from before the move.
+ *
+ * <p>A record can be reused for another move through
+ * {@link Controller#makeMove(int, UndoRecord)}; the captured‑cell array
+ * only grows, so a search that keeps one record per ply allocates nothing
+ * once warmed up.</p>
+ */
+public final class UndoRecord {
+    int cell;
+    int[] captured = new int[0];
+    int capturedCount;
+    String previousPlayer;
+    boolean previousGameOver;
+
+    /** @return the placed cell id, or {@link Controller#PASS}. */
+    public int getCell() {
+        return cell;
+    }
+
+    public boolean isPass() {
+        return cell == Controller.PASS;
+    }
+
+    public int getCapturedCount() {
+        return capturedCount;
+    }
+
+    /** @return the id of the {@code i}th captured cell. */
+    public int getCaptured(int i) {
+        return captured[i];
+    }
+
+    public String getPreviousPlayer() {
+        return previousPlayer;
+    }
+
+    public boolean getPreviousGameOver() {
+        return previousGameOver;
+    }
+
+    void captured(int[] ids, int count) {
+        if (captured.length < count) {
+            captured = new int[Math.max(count, 2 * captured.length)];
+        }
+        System.arraycopy(ids, 0, captured, 0, count);
+        capturedCount = count;
+    }
+}
@@ -0,0 +1,209 @@
+package Controller;
+
+import Model.BitBoard;
+import Model.Board;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Per‑player cache of the valid placements on a board, refreshed only
+ * where the last ownership changes can have had an effect.
+ *
+ * <p>Whether an empty cell is valid for a player depends on the player's
+ * groups next to it and on the opponent groups next to those. When cells
+ * change owner, every group of either color touching a changed cell (or one
+ * of its neighbors) may have changed, and so may every group adjacent to
+ * those. The cells in or around any of these groups are marked dirty for
+ * both players; everything else keeps its cached answer.</p>
+ *
+ * <p>Changes are read from {@link BitBoard#changedWord(int)}, so direct
+ * {@code setOwner} calls are picked up as well as moves. Dirty cells are
+ * re‑evaluated lazily, on the next query for that player; on boards large
+ * enough, a {@link ParallelMoveGenerator} spreads a big batch of dirty cells
+ * over a fork/join pool, the common pool unless the game was given one.</p>
+ */
+final class ValidMoveCache {
+    private final Board board;
+    private final BitBoard bits;
+    private final BitRules rules;
+    private final ParallelMoveGenerator generator; // null on boards too small to split
+
+    private final long[][] valid; // indexed by player, then word
+    private final long[][] dirty;
+
+    // Dirty-region scratch: stamp[id] == epoch marks cells already in a group
+    private final long[] region;
+    private final int[] stamp;
+    private final int[] members;
+    private int epoch;
+
+    ValidMoveCache(Board board, BitRules rules) {
+        this(board, rules, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param pool workers for re‑evaluating large batches of dirty cells on
+     *             boards of at least {@link ParallelMoveGenerator#DEFAULT_THRESHOLD}
+     *             cells.
+     */
+    ValidMoveCache(Board board, BitRules rules, ForkJoinPool pool) {
+        this.board = board;
+        this.bits = board.getBitBoard();
+        this.rules = rules;
+        this.generator = board.cellCount() >= ParallelMoveGenerator.DEFAULT_THRESHOLD
+                ? new ParallelMoveGenerator(board, rules, pool, ParallelMoveGenerator.DEFAULT_THRESHOLD)
+                : null;
+        int words = bits.words();
+        this.valid = new long[2][words];
+        this.dirty = new long[2][words];
+        this.region = new long[words];
+        this.stamp = new int[board.cellCount()];
+        this.members = new int[board.cellCount()];
+        for (int player = 0; player < 2; player++) {
+            for (int w = 0; w < words; w++) {
+                dirty[player][w] = bits.fullWord(w);
+            }
+        }
+        bits.clearChanged();
+    }
+
+    /** The valid moves of {@code player}, one bit per cell, fully refreshed. Do not modify. */
+    long[] valid(int player) {
+        refresh(player);
+        return valid[player];
+    }
+
+    int count(int player) {
+        refresh(player);
+        int count = 0;
+        for (long word : valid[player]) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    boolean isValid(int player, int cell) {
+        absorbChanges();
+        int w = cell >>> 6;
+        long bit = 1L << cell;
+        if ((dirty[player][w] & bit) != 0) {
+            evaluate(player, cell);
+        }
+        return (valid[player][w] & bit) != 0;
+    }
+
+    /**
+     * @return true if {@code player} has a valid move, re‑evaluating dirty
+     * cells only until the first valid one is found.
+     */
+    boolean hasValidMove(int player) {
+        absorbChanges();
+        long[] v = valid[player], d = dirty[player];
+        for (int w = 0; w < v.length; w++) {
+            if ((v[w] & ~d[w]) != 0) return true; // a clean cached answer
+        }
+        for (int w = 0; w < d.length; w++) {
+            for (long m = d[w]; m != 0; m &= m - 1) {
+                if (evaluate(player, (w << 6) | Long.numberOfTrailingZeros(m))) return true;
+            }
+        }
+        return false;
+    }
+
+    private void refresh(int player) {
+        absorbChanges();
+        long[] d = dirty[player];
+        if (generator != null) {
+            generator.validMoves(player, d, valid[player]);
+        } else {
+            rules.validMoves(player, d, valid[player]);
+        }
+        Arrays.fill(d, 0);
+    }
+
+    /** Re‑evaluates one dirty cell and stores the answer. */
+    private boolean evaluate(int player, int cell) {
+        boolean ok = rules.isValidMove(player, cell);
+        int w = cell >>> 6;
+        long bit = 1L << cell;
+        dirty[player][w] &= ~bit;
+        valid[player][w] = ok ? valid[player][w] | bit : valid[player][w] & ~bit;
+        return ok;
+    }
+
+    /** Turns the board's changed cells into dirty cells for both players. */
+    private void absorbChanges() {
+        if (!bits.hasChanges()) return;
+        if (++epoch == Integer.MAX_VALUE) {
+            Arrays.fill(stamp, 0);
+            epoch = 1;
+        }
+        Arrays.fill(region, 0);
+
+        // Groups touching the changed cells or their neighbors...
+        int count = 0;
+        for (int w = 0; w < region.length; w++) {
+            for (long m = bits.changedWord(w); m != 0; m &= m - 1) {
+                int cell = (w << 6) | Long.numberOfTrailingZeros(m);
+                mark(cell);
+                count = addGroup(cell, count);
+                for (int dir = 0; dir < 6; dir++) {
+                    int n = board.neighborId(cell, dir);
+                    if (n >= 0) {
+                        mark(n);
+                        count = addGroup(n, count);
+                    }
+                }
+            }
+        }
+        // ...then the groups adjacent to those
+        int touching = count;
+        for (int i = 0; i < touching; i++) {
+            for (int dir = 0; dir < 6; dir++) {
+                int n = board.neighborId(members[i], dir);
+                if (n >= 0) count = addGroup(n, count);
+            }
+        }
+        // Every cell of those groups and their neighbors is dirty
+        for (int i = 0; i < count; i++) {
+            int cell = members[i];
+            mark(cell);
+            for (int dir = 0; dir < 6; dir++) {
+                int n = board.neighborId(cell, dir);
+                if (n >= 0) mark(n);
+            }
+        }
+        for (int w = 0; w < region.length; w++) {
+            dirty[0][w] |= region[w];
+            dirty[1][w] |= region[w];
+        }
+        bits.clearChanged();
+    }
+
+    /**
+     * Appends the whole group of {@code cell} to members[] unless the cell is
+     * empty or its group was already added.
+     */
+    private int addGroup(int cell, int count) {
+        int owner = bits.owner(cell);
+        if (owner == BitBoard.NONE || stamp[cell] == epoch) return count;
+        int start = count;
+        stamp[cell] = epoch;
+        members[count++] = cell;
+        for (int i = start; i < count; i++) {
+            for (int dir = 0; dir < 6; dir++) {
+                int n = board.neighborId(members[i], dir);
+                if (n >= 0 && stamp[n] != epoch && bits.owner(n) == owner) {
+                    stamp[n] = epoch;
+                    members[count++] = n;
+                }
+            }
+        }
+        return count;
+    }
+
+    private void mark(int cell) {
+        region[cell >>> 6] |= 1L << cell;
+    }
+}
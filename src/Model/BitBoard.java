@@ -0,0 +1,169 @@
+package Model;
+
+import java.util.Arrays;
+
+/**
+ * Bitboard mirror of the ownership state of a {@link Board}.
+ *
+ * <p>Every cell is addressed by its id, the index it has in
+ * {@link Board#getHexagons()}. Cell {@code i} maps to bit {@code i & 63} of
+ * word {@code i >>> 6}, and each player owns one mask of
+ * {@code ceil(cells / 64)} words: two {@code long}s for the 127 cells of the
+ * standard base‑7 board, a few hundred for the largest analysis boards.</p>
+ *
+ * <h6>Neighbors</h6>
+ * Adjacency comes from the board's neighbor table (six ids per cell, -1 off
+ * the board) rather than per‑cell neighbor masks, which would grow with the
+ * square of the cell count.
+ *
+ * <p>The masks are kept in step by {@link Board} whenever a
+ * {@link Hexagon#setOwner(String)} call changes a board cell. Every such
+ * change is also accumulated in a changed‑cells mask, which lets caches
+ * built on top of the board invalidate only what a move touched.</p>
+ */
+public final class BitBoard {
+    public static final int RED = 0;
+    public static final int BLUE = 1;
+    public static final int NONE = -1;
+
+    private final int cells;
+    private final int words;
+    private final int[] neighbors; // neighbors[id * 6 + dir], -1 off the board
+    private final long[] full;
+    private final long[][] own; // indexed by player, then word
+    private final int[] counts = new int[2];
+
+    // Cells whose owner changed since the last clearChanged()
+    private final long[] changed;
+    private boolean anyChanged;
+
+    BitBoard(int cells, int[] neighbors) {
+        this.cells = cells;
+        this.words = (cells + 63) >>> 6;
+        this.neighbors = neighbors;
+        this.full = new long[words];
+        this.own = new long[2][words];
+        this.changed = new long[words];
+        for (int id = 0; id < cells; id++) {
+            full[id >>> 6] |= 1L << id;
+        }
+    }
+
+    /** Maps an owner string to its player index; {@link #NONE} for null or unknown owners. */
+    public static int playerIndex(String owner) {
+        if ("RED".equals(owner)) return RED;
+        if ("BLUE".equals(owner)) return BLUE;
+        return NONE;
+    }
+
+    public static String playerName(int player) {
+        return player == RED ? "RED" : player == BLUE ? "BLUE" : null;
+    }
+
+    public static int opponent(int player) {
+        return player ^ 1;
+    }
+
+    public int cellCount() {
+        return cells;
+    }
+
+    /** Number of 64‑bit words per mask. */
+    public int words() {
+        return words;
+    }
+
+    /** Word {@code w} of the cells owned by {@code player}. */
+    public long word(int player, int w) {
+        return own[player][w];
+    }
+
+    /** Word {@code w} of the mask holding every cell of the board. */
+    public long fullWord(int w) {
+        return full[w];
+    }
+
+    /** Word {@code w} of the cells nobody owns. */
+    public long emptyWord(int w) {
+        return full[w] & ~(own[RED][w] | own[BLUE][w]);
+    }
+
+    public boolean test(int player, int id) {
+        return (own[player][id >>> 6] & (1L << id)) != 0;
+    }
+
+    /** @return the player owning cell {@code id}, or {@link #NONE}. */
+    public int owner(int id) {
+        long bit = 1L << id;
+        int w = id >>> 6;
+        return (own[RED][w] & bit) != 0 ? RED : (own[BLUE][w] & bit) != 0 ? BLUE : NONE;
+    }
+
+    /** @return true if any neighbor of cell {@code id} is owned by {@code player}. */
+    public boolean ownsNeighbor(int player, int id) {
+        long[] mask = own[player];
+        for (int i = id * 6, end = i + 6; i < end; i++) {
+            int n = neighbors[i];
+            if (n >= 0 && (mask[n >>> 6] & (1L << n)) != 0) return true;
+        }
+        return false;
+    }
+
+    /** Number of cells owned by {@code player}. */
+    public int count(int player) {
+        return counts[player];
+    }
+
+    public boolean hasChanges() {
+        return anyChanged;
+    }
+
+    /** Word {@code w} of the cells whose owner changed since {@link #clearChanged()}. */
+    public long changedWord(int w) {
+        return changed[w];
+    }
+
+    public void clearChanged() {
+        if (!anyChanged) return;
+        Arrays.fill(changed, 0);
+        anyChanged = false;
+    }
+
+    /**
+     * Takes over the ownership of {@code other}, a bitboard of the same size.
+     * Only the cells whose owner differs are marked changed.
+     */
+    void copyFrom(BitBoard other) {
+        for (int w = 0; w < words; w++) {
+            long diff = (own[RED][w] ^ other.own[RED][w]) | (own[BLUE][w] ^ other.own[BLUE][w]);
+            if (diff != 0) {
+                changed[w] |= diff;
+                anyChanged = true;
+            }
+        }
+        System.arraycopy(other.own[RED], 0, own[RED], 0, words);
+        System.arraycopy(other.own[BLUE], 0, own[BLUE], 0, words);
+        counts[RED] = other.counts[RED];
+        counts[BLUE] = other.counts[BLUE];
+    }
+
+    void set(int id, int player) {
+        clear(id);
+        if (player == NONE) return;
+        own[player][id >>> 6] |= 1L << id;
+        counts[player]++;
+    }
+
+    void clear(int id) {
+        int w = id >>> 6;
+        long bit = 1L << id;
+        changed[w] |= bit;
+        anyChanged = true;
+        for (int player = 0; player < 2; player++) {
+            if ((own[player][w] & bit) != 0) {
+                own[player][w] &= ~bit;
+                counts[player]--;
+            }
+        }
+    }
+}
@@ -1,68 +1,348 @@
 package Model;
 
-import java.awt.*;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.IntConsumer;
 
 /**
  * Logical representation of the HexOust playing board.
  *
  * <p>The {@code Board} is a fixed collection of {@link Hexagon} objects laid
  * out in a regular hex‑shaped grid (“cube” axial coordinates q,r,s = 0).
- * The constructor builds a base‑7 board but can be reused for any size.</p>
+ * The default constructor builds the standard base‑7 board; any other side
+ * length can be passed to {@link #Board(int)}.</p>
+ *
+ * <p>Each cell receives an integer id equal to its index in
+ * {@link #getHexagons()}. Ownership is mirrored into a {@link BitBoard}
+ * which the rules engine queries instead of the {@code Hexagon} list, and
+ * connected groups are tracked incrementally by a {@link GroupTracker}.
+ * The same updates maintain a {@link Zobrist} hash of the position.</p>
  */
 public class Board {
     private final ArrayList<Hexagon> hexagons;
+    private final BitBoard bits;
+    private final GroupTracker groups;
+    private final Layout layout;
+
+    // Dense (q,r) -> cell lookup over the (2*size-1)^2 axial bounding square
+    private int size;
+    private int span;
+    private Hexagon[] index;
+
+    // Zobrist keys, zobrist[player * cells + id], and the hash of the current ownership
+    private long[] zobrist;
+    private long hash;
+
+    // clearOwners scratch: the cleared ids of each player
+    private int[][] cleared;
+    private final int[] clearCounts = new int[2];
+
+    // neighborTable[id * 6 + dir] = neighbor id in direction dir, or -1 off the board
+    private int[] neighborTable;
+    private List<List<Hexagon>> neighborLists;
 
 
     public Board() {
-        hexagons = new ArrayList<>();
-        generateHexagonalBoard(7); // Base-7 board
+        this(7); // Base-7 board
     }
 
+    /**
+     * Builds a hex‑shaped board with {@code size} cells along each edge,
+     * {@code 3*size*(size-1)+1} cells in total.
+     */
+    public Board(int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Board size must be at least 1, got " + size);
+        }
+        hexagons = new ArrayList<>(3 * size * (size - 1) + 1);
+        generateHexagonalBoard(size);
+        layout = Layout.forBoard(size);
+        bits = new BitBoard(hexagons.size(), neighborTable);
+        groups = new GroupTracker(this);
+        cleared = new int[2][hexagons.size()];
+        zobrist = new long[2 * hexagons.size()];
+        for (int player = 0; player < 2; player++) {
+            for (int id = 0; id < hexagons.size(); id++) {
+                zobrist[player * hexagons.size() + id] = Zobrist.cellKey(player, id);
+            }
+        }
+        for (Hexagon hex : hexagons) {
+            hex.board = this;
+        }
+    }
+
+    /**
+     * Builds the cells together with the coordinate index and the neighbor
+     * table, so later lookups never scan the hexagon list.
+     */
     private void generateHexagonalBoard(int size) {
+        this.size = size;
+        this.span = 2 * size - 1;
+        this.index = new Hexagon[span * span];
+
         for (int q = -size + 1; q < size; q++) {
             int r1 = Math.max(-size + 1, -q - size + 1);
             int r2 = Math.min(size - 1, -q + size - 1);
 
             for (int r = r1; r <= r2; r++) {
                 int s = -q - r;
-                hexagons.add(new Hexagon(q, r, s));
+                Hexagon hex = new Hexagon(q, r, s);
+                hex.id = hexagons.size();
+                hexagons.add(hex);
+                index[slot(q, r)] = hex;
+            }
+        }
+
+        neighborTable = new int[hexagons.size() * 6];
+        neighborLists = new ArrayList<>(hexagons.size());
+        for (Hexagon hex : hexagons) {
+            List<Hexagon> around = new ArrayList<>(6);
+            for (int dir = 0; dir < 6; dir++) {
+                Hexagon d = Hexagon.direction(dir);
+                Hexagon n = cellAt(hex.q + d.q, hex.r + d.r);
+                neighborTable[hex.id * 6 + dir] = n == null ? -1 : n.id;
+                if (n != null) {
+                    around.add(n);
+                }
+            }
+            neighborLists.add(Collections.unmodifiableList(around));
+        }
+    }
+
+    private int slot(int q, int r) {
+        return (q + size - 1) * span + (r + size - 1);
+    }
+
+    /**
+     * Finds the board cell at axial coordinates (q,r) in constant time.
+     * @return the cell, or null if (q,r) is not on the board.
+     */
+    public Hexagon cellAt(int q, int r) {
+        int qi = q + size - 1;
+        int ri = r + size - 1;
+        if (qi < 0 || qi >= span || ri < 0 || ri >= span) {
+            return null;
+        }
+        return index[qi * span + ri]; // null in the corners of the square
+    }
+
+    /**
+     * @return the id of the cell at axial coordinates (q,r), or -1 off the board.
+     */
+    public int idAt(int q, int r) {
+        Hexagon hex = cellAt(q, r);
+        return hex == null ? -1 : hex.id;
+    }
+
+    /**
+     * @return the id of the neighbor of cell {@code id} in direction
+     * {@code dir} (see {@link Hexagon#DIRECTIONS}), or -1 off the board.
+     */
+    public int neighborId(int id, int dir) {
+        return neighborTable[id * 6 + dir];
+    }
+
+    /**
+     * The board's own cell next to {@code hex} in direction {@code dir},
+     * without allocating. Unlike {@link Hexagon#neighbor(int)} the result is
+     * the shared board cell, carrying its owner.
+     * @return the neighbor cell, or null off the board.
+     */
+    public Hexagon neighbor(Hexagon hex, int dir) {
+        if (hex.board == this) {
+            int n = neighborTable[hex.id * 6 + dir];
+            return n < 0 ? null : hexagons.get(n);
+        }
+        Hexagon d = Hexagon.direction(dir);
+        return cellAt(hex.q + d.q, hex.r + d.r);
+    }
+
+    /**
+     * Calls {@code action} with the id of every on‑board neighbor of cell
+     * {@code id}, in direction order.
+     */
+    public void forEachNeighbor(int id, IntConsumer action) {
+        int base = id * 6;
+        for (int dir = 0; dir < 6; dir++) {
+            int n = neighborTable[base + dir];
+            if (n >= 0) {
+                action.accept(n);
+            }
+        }
+    }
+
+    /** @return the distance in cells between the cells with ids {@code a} and {@code b}. */
+    public int distance(int a, int b) {
+        Hexagon ha = hexagons.get(a), hb = hexagons.get(b);
+        return Hexagon.distance(ha.q, ha.r, hb.q, hb.r);
+    }
+
+    /**
+     * @return the on‑board neighbors of a board cell, as a read‑only list
+     * built once with the board.
+     */
+    public List<Hexagon> neighborsOf(Hexagon cell) {
+        return neighborLists.get(cell.id);
+    }
+
+    /** Side length of the hex‑shaped board (7 for the standard 127‑cell board). */
+    public int getSize() {
+        return size;
+    }
+
+    public int cellCount() {
+        return hexagons.size();
+    }
+
+    /**
+     * Mirrors an ownership change of one of this board's cells into the
+     * bitboard and the group tracker.
+     * Called by {@link Hexagon#setOwner(String)} before the new owner is stored.
+     */
+    void updateOwner(Hexagon hex, String owner) {
+        int player = BitBoard.playerIndex(owner);
+        if (owner != null && player == BitBoard.NONE) {
+            throw new IllegalArgumentException("Unknown owner -> " + owner);
+        }
+        int previous = bits.owner(hex.id);
+        bits.set(hex.id, player);
+        groups.ownerChanged(hex.id, previous, player);
+        toggle(previous, hex.id);
+        toggle(player, hex.id);
+    }
+
+    /**
+     * Empties all the given board cells at once. Unlike calling
+     * {@code setOwner(null)} on each, the group tracker only rebuilds groups
+     * left behind next to the erased cells - none when whole groups are
+     * captured.
+     */
+    public void clearOwners(Collection<Hexagon> cells) {
+        int[] ids = new int[cells.size()];
+        int count = 0;
+        for (Hexagon hex : cells) {
+            ids[count++] = hex.id;
+        }
+        clearOwners(ids, count);
+    }
+
+    /**
+     * Id form of {@link #clearOwners(Collection)}: empties the cells
+     * {@code ids[0..count)} without allocating.
+     */
+    public void clearOwners(int[] ids, int count) {
+        int[] counts = clearCounts;
+        counts[BitBoard.RED] = 0;
+        counts[BitBoard.BLUE] = 0;
+        for (int i = 0; i < count; i++) {
+            int id = ids[i];
+            int previous = bits.owner(id);
+            if (previous == BitBoard.NONE) continue;
+            bits.clear(id);
+            toggle(previous, id);
+            hexagons.get(id).assignOwner(null);
+            cleared[previous][counts[previous]++] = id;
+        }
+        for (int player = 0; player < 2; player++) {
+            if (counts[player] > 0) {
+                groups.cellsCleared(cleared[player], counts[player], player);
+            }
+        }
+    }
+
+    /**
+     * Makes this board's ownership a copy of {@code other}'s, touching only
+     * the cells that differ. Lets searches reset a scratch board to a
+     * position without building a new one.
+     * @throws IllegalArgumentException if the boards differ in size.
+     */
+    public void copyFrom(Board other) {
+        if (other.size != size) {
+            throw new IllegalArgumentException("Board sizes differ -> " + size + " vs " + other.size);
+        }
+        BitBoard from = other.bits;
+        for (int w = 0; w < bits.words(); w++) {
+            long diff = (bits.word(BitBoard.RED, w) ^ from.word(BitBoard.RED, w))
+                    | (bits.word(BitBoard.BLUE, w) ^ from.word(BitBoard.BLUE, w));
+            for (long m = diff; m != 0; m &= m - 1) {
+                int id = (w << 6) | Long.numberOfTrailingZeros(m);
+                hexagons.get(id).assignOwner(BitBoard.playerName(from.owner(id)));
             }
         }
+        bits.copyFrom(from);
+        groups.copyFrom(other.groups);
+        hash = other.hash;
+    }
+
+    /**
+     * 64‑bit Zobrist hash of the ownership of every cell, kept up to date on
+     * each change (see {@link Zobrist}). Equal positions on boards of the same
+     * size have equal hashes. The side to move is not included; see
+     * {@link Controller.Controller#getHash()}.
+     */
+    public long getHash() {
+        return hash;
+    }
+
+    private void toggle(int player, int id) {
+        if (player != BitBoard.NONE) {
+            hash ^= zobrist[player * hexagons.size() + id];
+        }
     }
 
     public ArrayList<Hexagon> getHexagons() {
         return hexagons;
     }
 
+    /** @return the cell with the given id (its index in {@link #getHexagons()}). */
+    public Hexagon getHexagon(int id) {
+        return hexagons.get(id);
+    }
+
+    public BitBoard getBitBoard() {
+        return bits;
+    }
+
+    public GroupTracker getGroups() {
+        return groups;
+    }
+
+    public Layout getLayout() {
+        return layout;
+    }
+
     /**
      * Finds the hexagon that was clicked on the board, based on pixel coords [x,y]
-     * Same size param as GUI.
+     * Uses the board's {@link Layout}, the same one the GUI draws with.
+     *
+     * <p>The pixel is converted to fractional axial coordinates and rounded
+     * to the nearest cell in cube space, so the lookup is constant time and
+     * allocation free, cheap enough for hover tracking. A point on the edge
+     * between two cells goes to one of them, always the same one.</p>
+     * @return the cell under the pixel, or null outside the board.
      */
     public Hexagon getHexagonAt(int x, int y) {
-        int centerX = 750 / 2;
-        int centerY = 750 / 2;
-        int hexSize = 30;
+        double q = layout.fractionalQ(x, y);
+        double r = layout.fractionalR(x, y);
+        double s = -q - r;
 
-        for (Hexagon hex : hexagons) {
-            double hexCenterX = centerX + hexSize * (3.0 / 2 * hex.q);
-            double hexCenterY = centerY + hexSize * (Math.sqrt(3) * (hex.r + hex.q / 2.0));
-            int[] xPoints = new int[6];
-            int[] yPoints = new int[6];
-
-            // Loop over hexagon's 6-points
-            for (int i = 0; i < 6; i++) {
-                double angle = Math.toRadians(60 * i);
-                xPoints[i] = (int) (hexCenterX + hexSize * Math.cos(angle));
-                yPoints[i] = (int) (hexCenterY + hexSize * Math.sin(angle));
-            }
-            Polygon poly = new Polygon(xPoints, yPoints, 6);
-            // Hexagon found
-            if (poly.contains(x, y)) {
-                return hex;
-            }
+        // Cube rounding: round each coordinate, then fix the one that moved the most
+        long rq = Math.round(q);
+        long rr = Math.round(r);
+        long rs = Math.round(s);
+        double dq = Math.abs(rq - q);
+        double dr = Math.abs(rr - r);
+        double ds = Math.abs(rs - s);
+        if (dq > dr && dq > ds) {
+            rq = -rr - rs;
+        } else if (dr > ds) {
+            rr = -rq - rs;
+        }
+        if (Math.abs(rq) >= size || Math.abs(rr) >= size) {
+            return null; // also keeps huge clicks from overflowing the int cast
         }
-        // Hexagon not found
-        return null;
+        return cellAt((int) rq, (int) rr);
     }
-}
\ No newline at end of file
+}
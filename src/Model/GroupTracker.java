@@ -0,0 +1,204 @@
+package Model;
+
+/**
+ * Keeps the connected groups of each player on a {@link Board} up to date
+ * as cells change owner, so group sizes are available without a flood fill.
+ *
+ * <p>Groups are stored as a union‑find forest over cell ids (union by size,
+ * path halving). A placement merges the new cell with the groups of its
+ * same‑colored neighbors. Removing cells can split a group, which union‑find
+ * cannot undo, so removals rebuild only the components that touched the
+ * removed cells: each same‑colored neighbor left behind is flood‑filled
+ * once and becomes the root of its (possibly smaller) group. A capture
+ * removes whole groups, leaving no such neighbors and therefore nothing to
+ * rebuild.</p>
+ *
+ * <p>Empty cells are their own root with size 0.</p>
+ */
+public final class GroupTracker {
+    private final Board board;
+    private final BitBoard bits;
+    private final int[] parent;
+    private final int[] size;
+
+    // Rebuild scratch: stamp[id] == epoch marks cells already relabeled
+    private final int[] stamp;
+    private final int[] stack;
+    private int epoch;
+
+    GroupTracker(Board board) {
+        this.board = board;
+        this.bits = board.getBitBoard();
+        int cells = board.cellCount();
+        this.parent = new int[cells];
+        this.size = new int[cells];
+        this.stamp = new int[cells];
+        this.stack = new int[cells];
+        for (int id = 0; id < cells; id++) {
+            parent[id] = id;
+        }
+    }
+
+    /**
+     * @return the root cell of the group containing {@code id}.
+     */
+    public int find(int id) {
+        while (parent[id] != id) {
+            parent[id] = parent[parent[id]]; // path halving
+            id = parent[id];
+        }
+        return id;
+    }
+
+    /**
+     * @return the number of cells in the group containing {@code id},
+     * or 0 if the cell is empty.
+     */
+    public int groupSize(int id) {
+        return size[find(id)];
+    }
+
+    /**
+     * {@link #find} without path halving. It never writes, so any number of
+     * threads may call it at once while the board is not changing; call
+     * {@link #compress()} first to make every lookup a single hop.
+     */
+    public int peekRoot(int id) {
+        while (parent[id] != id) {
+            id = parent[id];
+        }
+        return id;
+    }
+
+    /** {@link #groupSize} through {@link #peekRoot}. */
+    public int peekGroupSize(int id) {
+        return size[peekRoot(id)];
+    }
+
+    /** Points every cell straight at its root. */
+    public void compress() {
+        for (int id = 0; id < parent.length; id++) {
+            parent[id] = peekRoot(id);
+        }
+    }
+
+    public boolean sameGroup(int a, int b) {
+        return find(a) == find(b);
+    }
+
+    /**
+     * Records that cell {@code id} changed from {@code previous} to
+     * {@code player} (either may be {@link BitBoard#NONE}). The bitboard must
+     * already hold the new owner.
+     */
+    void ownerChanged(int id, int previous, int player) {
+        if (previous == player) return;
+        if (previous != BitBoard.NONE) {
+            detach(id);
+            rebuildAround(id, previous);
+        }
+        if (player != BitBoard.NONE) {
+            place(id, player);
+        }
+    }
+
+    /**
+     * Records that every cell in {@code ids} (all previously owned by
+     * {@code previous}) has been emptied. The bitboard must already be cleared.
+     */
+    void cellsCleared(int[] ids, int count, int previous) {
+        for (int i = 0; i < count; i++) {
+            detach(ids[i]);
+        }
+        epoch++;
+        for (int i = 0; i < count; i++) {
+            relabelNeighbors(ids[i], previous);
+        }
+    }
+
+    /**
+     * Takes over the groups of {@code other}, a tracker of a board of the
+     * same size whose ownership was just copied into this one.
+     */
+    void copyFrom(GroupTracker other) {
+        System.arraycopy(other.parent, 0, parent, 0, parent.length);
+        System.arraycopy(other.size, 0, size, 0, size.length);
+    }
+
+    /** Recomputes every group from the bitboard. */
+    void rebuildAll() {
+        for (int id = 0; id < parent.length; id++) {
+            detach(id);
+        }
+        epoch++;
+        for (int id = 0; id < parent.length; id++) {
+            int owner = bits.owner(id);
+            if (owner != BitBoard.NONE && stamp[id] != epoch) {
+                relabel(id, owner);
+            }
+        }
+    }
+
+    private void place(int id, int player) {
+        parent[id] = id;
+        size[id] = 1;
+        for (int dir = 0; dir < 6; dir++) {
+            int n = board.neighborId(id, dir);
+            if (n >= 0 && bits.owner(n) == player) {
+                union(id, n);
+            }
+        }
+    }
+
+    private void union(int a, int b) {
+        int ra = find(a);
+        int rb = find(b);
+        if (ra == rb) return;
+        if (size[ra] < size[rb]) {
+            int t = ra; ra = rb; rb = t;
+        }
+        parent[rb] = ra;
+        size[ra] += size[rb];
+    }
+
+    private void detach(int id) {
+        parent[id] = id;
+        size[id] = 0;
+    }
+
+    private void rebuildAround(int id, int previous) {
+        epoch++;
+        relabelNeighbors(id, previous);
+    }
+
+    private void relabelNeighbors(int id, int player) {
+        for (int dir = 0; dir < 6; dir++) {
+            int n = board.neighborId(id, dir);
+            if (n >= 0 && stamp[n] != epoch && bits.owner(n) == player) {
+                relabel(n, player);
+            }
+        }
+    }
+
+    /** Flood‑fills the group of {@code root} and makes it a flat tree under {@code root}. */
+    private void relabel(int root, int player) {
+        int top = 0;
+        int count = 0;
+        stack[top++] = root;
+        stamp[root] = epoch;
+        while (top > 0) {
+            int cell = stack[--top];
+            parent[cell] = root;
+            size[cell] = 0;
+            count++;
+            for (int dir = 0; dir < 6; dir++) {
+                int n = board.neighborId(cell, dir);
+                if (n >= 0 && stamp[n] != epoch && bits.owner(n) == player) {
+                    stamp[n] = epoch;
+                    stack[top++] = n;
+                }
+            }
+        }
+        size[root] = count;
+    }
+}
@@ -6,7 +6,11 @@ package Model;
  *
  * <p>The class provides basic vector‑like operations
  * (add, subtract, distance)
- * that make Board/Controller code read naturally.</p>
+ * that make Board/Controller code read naturally. {@code add},
+ * {@code subtract} and {@code neighbor} return new hexagons; hot paths should
+ * use the allocation‑free {@link #distance(int, int, int, int)} and the
+ * board's own cells and neighbor ids instead (see {@link Board#neighbor}
+ * and {@link Board#forEachNeighbor}).</p>
  *
  * <h6>Coordinate system</h6>
  * Each hexagon is identified by three integers <code>(q,r,s)</code> such that
@@ -27,6 +31,10 @@ public class Hexagon {
     public int s;
     private String owner; // Red, Blue, Null(if unowned)
 
+    // Set by Board for its own cells; detached hexagons keep -1 / null
+    int id = -1;
+    Board board;
+
     public Hexagon(int q, int r, int s) {
         if (q + r + s != 0) {
             throw new IllegalArgumentException("q + r + s must be 0");
@@ -42,9 +50,25 @@ public class Hexagon {
     }
 
     public void setOwner(String owner) {
+        if (board != null) {
+            board.updateOwner(this, owner); // keep the bitboard in step
+        }
+        this.owner = owner;
+    }
+
+    // Used by Board for bulk updates that notify its trackers itself
+    void assignOwner(String owner) {
         this.owner = owner;
     }
 
+    /**
+     * @return the cell id on the owning {@link Board}, or -1 for a hexagon
+     * that was created outside a board (eg; a direction vector).
+     */
+    public int getId() {
+        return id;
+    }
+
     public Hexagon add(Hexagon b) {
         return new Hexagon(q + b.q, r + b.r, s + b.s);
     }
@@ -58,7 +82,17 @@ public class Hexagon {
     }
 
     public int distance(Hexagon b) {
-        return subtract(b).length();
+        return distance(q, r, b.q, b.r);
+    }
+
+    /**
+     * Distance in cells between axial coordinates (q1,r1) and (q2,r2),
+     * computed without building a hexagon.
+     */
+    public static int distance(int q1, int r1, int q2, int r2) {
+        int dq = q1 - q2;
+        int dr = r1 - r2;
+        return (Math.abs(dq) + Math.abs(dr) + Math.abs(dq + dr)) / 2;
     }
 
     //There are six possible movement directions for a hex in the grid.
@@ -0,0 +1,78 @@
+package Model;
+
+/**
+ * Pixel layout of a {@link Board}: flat‑topped hexagons of a fixed size,
+ * centred on a square canvas.
+ *
+ * <p>The standard base‑7 board uses 30px hexagons on a 750px canvas. Larger
+ * boards shrink the hexagons so the whole board stays on screen, and the
+ * canvas only grows once the hexagons reach their minimum size.</p>
+ *
+ * <p>Both {@link Board#getHexagonAt(int, int)} and the GUI read the same
+ * layout, so clicks always map to the cells that were drawn.</p>
+ */
+public final class Layout {
+    public static final int DEFAULT_HEX_SIZE = 30;
+    public static final int DEFAULT_CANVAS = 750;
+    private static final int MIN_HEX_SIZE = 3;
+    private static final double SQRT3 = Math.sqrt(3);
+
+    private final int hexSize;
+    private final int width;
+    private final int height;
+
+    public Layout(int boardSize, int hexSize) {
+        this.hexSize = hexSize;
+        // Extent of the grid in pixels, plus one hexagon of margin on each side
+        int gridWidth = (int) Math.ceil(hexSize * (3.0 * (boardSize - 1) + 2));
+        int gridHeight = (int) Math.ceil(hexSize * SQRT3 * (2 * boardSize - 1));
+        int side = Math.max(DEFAULT_CANVAS, Math.max(gridWidth, gridHeight) + 2 * hexSize);
+        this.width = side;
+        this.height = side;
+    }
+
+    /**
+     * Layout for a board of the given side length: 30px hexagons up to base‑7,
+     * proportionally smaller ones beyond.
+     */
+    public static Layout forBoard(int boardSize) {
+        int hexSize = boardSize <= 7 ? DEFAULT_HEX_SIZE
+                : Math.max(MIN_HEX_SIZE, DEFAULT_HEX_SIZE * 7 / boardSize);
+        return new Layout(boardSize, hexSize);
+    }
+
+    public int getHexSize() {
+        return hexSize;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    /** Pixel x of the centre of the hexagon at axial (q,r). */
+    public double centerX(int q, int r) {
+        return width / 2 + hexSize * (3.0 / 2 * q);
+    }
+
+    /** Pixel y of the centre of the hexagon at axial (q,r). */
+    public double centerY(int q, int r) {
+        return height / 2 + hexSize * (SQRT3 * (r + q / 2.0));
+    }
+
+    /**
+     * Fractional axial q of pixel (x,y), the inverse of {@link #centerX}:
+     * whole numbers at cell centres.
+     */
+    public double fractionalQ(double x, double y) {
+        return (x - width / 2) * (2.0 / 3) / hexSize;
+    }
+
+    /** Fractional axial r of pixel (x,y), the inverse of {@link #centerY}. */
+    public double fractionalR(double x, double y) {
+        return ((y - height / 2) * (SQRT3 / 3) - (x - width / 2) / 3.0) / hexSize;
+    }
+}
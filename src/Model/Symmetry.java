@@ -0,0 +1,103 @@
+package Model;
+
+/**
+ * The 12 symmetries of a hexagonal board (6 rotations about the centre
+ * cell, each with or without a reflection) as permutations of cell ids.
+ *
+ * <p>HexOust's rules only look at adjacency, so a position and its rotated
+ * or mirrored images play out the same way. {@link #canonical(BitBoard)}
+ * picks one representative of the 12 by the smallest Zobrist hash, letting
+ * tables such as an opening book store each position once.</p>
+ *
+ * <p>In cube coordinates a rotation by 60° maps {@code (q,r,s)} to
+ * {@code (-r,-s,-q)} and the reflection swaps {@code r} and {@code s}.
+ * Symmetry 0 is the identity, so its hash is {@link Board#getHash()}.</p>
+ */
+public final class Symmetry {
+    public static final int COUNT = 12;
+
+    private final int[][] map;     // map[s][id] = image of id under symmetry s
+    private final int[][] inverse; // inverse[s][map[s][id]] = id
+
+    public Symmetry(Board board) {
+        int cells = board.cellCount();
+        map = new int[COUNT][cells];
+        inverse = new int[COUNT][cells];
+        for (Hexagon hex : board.getHexagons()) {
+            int q = hex.q, r = hex.r, s = hex.s;
+            for (int rotation = 0; rotation < 6; rotation++) {
+                map[rotation][hex.getId()] = board.idAt(q, r);
+                map[rotation + 6][hex.getId()] = board.idAt(q, s); // reflected: (q,s,r)
+                int t = q;
+                q = -r;
+                r = -s;
+                s = -t;
+            }
+        }
+        for (int sym = 0; sym < COUNT; sym++) {
+            for (int id = 0; id < cells; id++) {
+                inverse[sym][map[sym][id]] = id;
+            }
+        }
+    }
+
+    /** @return the image of cell {@code id} under symmetry {@code sym}. */
+    public int apply(int sym, int id) {
+        return map[sym][id];
+    }
+
+    /** @return the cell that symmetry {@code sym} maps onto {@code id}. */
+    public int invert(int sym, int id) {
+        return inverse[sym][id];
+    }
+
+    /** Zobrist hash of the ownership of {@code bits} after applying symmetry {@code sym}. */
+    public long hash(int sym, BitBoard bits) {
+        int[] image = map[sym];
+        long hash = 0;
+        for (int player = 0; player < 2; player++) {
+            for (int w = 0; w < bits.words(); w++) {
+                for (long m = bits.word(player, w); m != 0; m &= m - 1) {
+                    hash ^= Zobrist.cellKey(player, image[(w << 6) | Long.numberOfTrailingZeros(m)]);
+                }
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * @return the symmetry whose image of {@code bits} has the smallest hash
+     * (the lowest such index if several tie, as for symmetric positions).
+     */
+    public int canonical(BitBoard bits) {
+        int best = 0;
+        long bestHash = hash(0, bits);
+        for (int sym = 1; sym < COUNT; sym++) {
+            long h = hash(sym, bits);
+            if (Long.compareUnsigned(h, bestHash) < 0) {
+                best = sym;
+                bestHash = h;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Canonical form of {@code move} played from {@code bits}: its smallest
+     * image under the symmetries that take {@code bits} to its canonical
+     * form. A symmetric position has several such symmetries, and moves they
+     * swap (eg; either side of a mirror line) then fold to the same cell.
+     * {@link #invert(int, int)} with {@link #canonical(BitBoard)} maps the
+     * result back to one of those equivalent moves.
+     */
+    public int canonicalMove(BitBoard bits, int move) {
+        long best = hash(canonical(bits), bits);
+        int image = Integer.MAX_VALUE;
+        for (int sym = 0; sym < COUNT; sym++) {
+            if (hash(sym, bits) == best) {
+                image = Math.min(image, map[sym][move]);
+            }
+        }
+        return image;
+    }
+}
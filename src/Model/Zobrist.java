@@ -0,0 +1,52 @@
+package Model;
+
+/**
+ * Zobrist keys for HexOust positions.
+ *
+ * <p>Every (player, cell id) pair has a fixed pseudo‑random 64‑bit key, and
+ * a position's hash is the XOR of the keys of its owned cells, so a change
+ * of owner updates it with one or two XORs. The keys are a pure function of
+ * player and id (a SplitMix64 sequence), which keeps hashes stable between
+ * runs and across board instances of the same size; files that store
+ * hashes stay valid.</p>
+ *
+ * <p>The side to move is folded in by {@link Controller.Controller#getHash()}
+ * with {@link #BLUE_TO_MOVE}.</p>
+ */
+public final class Zobrist {
+    /**
+     * XORed into a position's hash when BLUE is to move. Its seed lies
+     * outside the sequence used for cell keys: the step is odd, so every
+     * seed is some multiple of it, and this one is the multiple
+     * 8482583892990087863, which would take a cell id above 4·10<sup>18</sup>.
+     * As {@code mix} is a bijection, the key differs from every cell key.
+     */
+    public static final long BLUE_TO_MOVE = mix(0xD1B54A32D192ED03L);
+
+    private Zobrist() {
+    }
+
+    /** Key of {@code player} ({@link BitBoard#RED} or {@link BitBoard#BLUE}) owning cell {@code id}. */
+    public static long cellKey(int player, int id) {
+        return mix(0x9E3779B97F4A7C15L * (2L * id + player + 1));
+    }
+
+    /** Hash of a board's ownership computed from scratch, for checks and tools. */
+    public static long hashOf(BitBoard bits) {
+        long hash = 0;
+        for (int player = 0; player < 2; player++) {
+            for (int w = 0; w < bits.words(); w++) {
+                for (long m = bits.word(player, w); m != 0; m &= m - 1) {
+                    hash ^= cellKey(player, (w << 6) | Long.numberOfTrailingZeros(m));
+                }
+            }
+        }
+        return hash;
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,260 @@
+package Server;
+
+import Controller.Controller;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Headless server hosting many HexOust games at once, for bots and
+ * tournaments on one machine.
+ *
+ * <h6>Protocol</h6>
+ * Text lines over a local TCP or Unix domain socket. Each request line gets
+ * exactly one reply line, {@code OK ...} or {@code ERR message}:
+ * <pre>
+ *   NEW [size]        OK id                    new game, base‑7 by default
+ *   MOVE id cell      OK player status         play a cell id for the player to move
+ *   PASS id           OK player status         pass, when there is no valid move
+ *   MOVES id          OK count cell...         valid moves of the player to move
+ *   CHECK id cell...  OK result...             per cell: -1 if illegal, else cells captured
+ *   STATE id          OK player status red blue
+ *   END id            OK                       forget the game
+ *   QUIT              OK                       close the session
+ * </pre>
+ * {@code player} is who moves next, {@code status} is {@code PLAYING} or
+ * {@code WON} (then {@code player} is the winner). Cells are the board's
+ * cell ids. Games are not tied to the session that created them, so two
+ * bots can play one game over two connections.
+ *
+ * <h6>Threads</h6>
+ * Every session (connection) runs on its own thread, blocking on its
+ * socket: a virtual thread on JVMs that have them, found by reflection so
+ * the server still runs on Java 17, and otherwise a thread from a cached
+ * pool. Game requests are serialized per game by {@link ServerGame}'s
+ * bounded queue and applied on a small fixed pool of rules threads, one per
+ * core, so the number of games is limited only by memory.
+ *
+ * <p>Run: {@code java -cp out Server.GameServer [--port N | --unix path]
+ * [--queue N] [--rules-threads N]}</p>
+ */
+public class GameServer implements Closeable {
+    static final int MAX_BOARD_SIZE = 100;
+
+    private final int queueCapacity;
+    private final ExecutorService rules;
+    private final ExecutorService sessions;
+    private final ConcurrentHashMap<Long, ServerGame> games = new ConcurrentHashMap<>();
+    private final AtomicLong nextId = new AtomicLong(1);
+    private final boolean virtualThreads;
+    private ServerSocketChannel server;
+    private Thread acceptor;
+
+    /**
+     * @param rulesThreads  threads applying moves, usually one per core.
+     * @param queueCapacity pending requests allowed per game.
+     */
+    public GameServer(int rulesThreads, int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+        this.rules = Executors.newFixedThreadPool(rulesThreads, daemon("game-rules"));
+        ExecutorService virtual = virtualThreadExecutor();
+        this.virtualThreads = virtual != null;
+        this.sessions = virtual != null ? virtual : Executors.newCachedThreadPool(daemon("game-session"));
+    }
+
+    /**
+     * Starts accepting sessions on {@code address}: an
+     * {@link InetSocketAddress} or a {@link UnixDomainSocketAddress}. A
+     * socket file left by an earlier server is replaced.
+     */
+    public void start(SocketAddress address) throws IOException {
+        if (address instanceof UnixDomainSocketAddress) {
+            Files.deleteIfExists(((UnixDomainSocketAddress) address).getPath());
+        }
+        server = address instanceof UnixDomainSocketAddress
+                ? ServerSocketChannel.open(StandardProtocolFamily.UNIX)
+                : ServerSocketChannel.open();
+        server.bind(address, 1024);
+        acceptor = daemon("game-server-accept").newThread(this::acceptLoop);
+        acceptor.start();
+    }
+
+    /** @return the bound address, eg; to find an ephemeral port. */
+    public SocketAddress getLocalAddress() throws IOException {
+        return server.getLocalAddress();
+    }
+
+    /** @return games currently hosted. */
+    public int gameCount() {
+        return games.size();
+    }
+
+    /** @return true if sessions run on virtual threads. */
+    public boolean usesVirtualThreads() {
+        return virtualThreads;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (server != null) server.close();
+        sessions.shutdownNow();
+        rules.shutdownNow();
+    }
+
+    private void acceptLoop() {
+        while (server.isOpen()) {
+            try {
+                SocketChannel channel = server.accept();
+                sessions.execute(() -> session(channel));
+            } catch (IOException e) {
+                if (server.isOpen()) {
+                    System.err.println("Accept failed -> " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    private void session(SocketChannel channel) {
+        try (channel;
+             BufferedReader in = new BufferedReader(new InputStreamReader(Channels.newInputStream(channel), StandardCharsets.US_ASCII));
+             BufferedWriter out = new BufferedWriter(new OutputStreamWriter(Channels.newOutputStream(channel), StandardCharsets.US_ASCII))) {
+            String line;
+            while ((line = in.readLine()) != null) {
+                line = line.trim();
+                out.write(handle(line));
+                out.write('\n');
+                out.flush();
+                if (line.equalsIgnoreCase("QUIT")) break;
+            }
+        } catch (IOException e) {
+            // client went away; its games stay until ended
+        }
+    }
+
+    /** Handles one request line and returns the reply line. */
+    String handle(String line) {
+        String[] args = line.split("\\s+");
+        try {
+            switch (args[0].toUpperCase()) {
+                case "NEW": {
+                    int size = args.length > 1 ? Integer.parseInt(args[1]) : 7;
+                    if (size < 1 || size > MAX_BOARD_SIZE) return "ERR Invalid board size -> " + size;
+                    long id = nextId.getAndIncrement();
+                    games.put(id, new ServerGame(id, size, rules, queueCapacity));
+                    return "OK " + id;
+                }
+                case "MOVE": return await(game(args).move(Integer.parseInt(args[2])));
+                case "PASS": return await(game(args).move(Controller.PASS));
+                case "MOVES": return await(game(args).validMoves());
+                case "CHECK": {
+                    ServerGame game = game(args);
+                    int[] cells = new int[args.length - 2];
+                    for (int i = 0; i < cells.length; i++) {
+                        cells[i] = Integer.parseInt(args[i + 2]);
+                    }
+                    return await(game.check(cells));
+                }
+                case "STATE": return await(game(args).state());
+                case "END": {
+                    return games.remove(Long.parseLong(args[1])) != null ? "OK" : "ERR No such game -> " + args[1];
+                }
+                case "QUIT": return "OK";
+                default: return "ERR Unknown command -> " + args[0];
+            }
+        } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+            return "ERR Malformed request -> " + line;
+        } catch (IllegalArgumentException e) {
+            return "ERR " + e.getMessage();
+        }
+    }
+
+    private ServerGame game(String[] args) {
+        ServerGame game = games.get(Long.parseLong(args[1]));
+        if (game == null) throw new IllegalArgumentException("No such game -> " + args[1]);
+        return game;
+    }
+
+    private static String await(CompletableFuture<String> reply) {
+        try {
+            return reply.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return "ERR Interrupted";
+        } catch (ExecutionException e) {
+            return "ERR " + e.getCause().getMessage();
+        }
+    }
+
+    /**
+     * {@code Executors.newVirtualThreadPerTaskExecutor()} where the JVM has
+     * it (Java 21+), or null.
+     */
+    static ExecutorService virtualThreadExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    private static ThreadFactory daemon(String name) {
+        return r -> {
+            Thread t = new Thread(r, name);
+            t.setDaemon(true);
+            return t;
+        };
+    }
+
+    /** Parses {@code --port N} or {@code --unix path} into an address on this machine. */
+    static SocketAddress address(String[] args, int defaultPort) {
+        for (int i = 0; i < args.length - 1; i++) {
+            if (args[i].equals("--unix")) {
+                return UnixDomainSocketAddress.of(Paths.get(args[i + 1]));
+            }
+            if (args[i].equals("--port")) {
+                return new InetSocketAddress(InetAddress.getLoopbackAddress(), Integer.parseInt(args[i + 1]));
+            }
+        }
+        return new InetSocketAddress(InetAddress.getLoopbackAddress(), defaultPort);
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int queue = 16;
+        int rulesThreads = Runtime.getRuntime().availableProcessors();
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--queue": queue = Integer.parseInt(args[++i]); break;
+                case "--rules-threads": rulesThreads = Integer.parseInt(args[++i]); break;
+                case "--port": case "--unix": i++; break;
+                default: throw new IllegalArgumentException("Unknown option -> " + args[i]);
+            }
+        }
+        GameServer server = new GameServer(rulesThreads, queue);
+        server.start(address(args, 7777));
+        System.out.println("HexOust server on " + server.getLocalAddress()
+                + (server.usesVirtualThreads() ? ", virtual-thread sessions" : ", pooled session threads"));
+        server.acceptor.join();
+    }
+}
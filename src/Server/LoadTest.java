@@ -0,0 +1,204 @@
+package Server;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Load generator for a {@link GameServer}.
+ *
+ * <p>Opens {@code --sessions} connections and spreads {@code --games} games
+ * over them. Each session first creates all of its games, so every game is
+ * live at once, then plays them round robin to the end with random valid
+ * moves ({@code MOVES} then {@code MOVE}, or {@code PASS}). Reports the
+ * request rate, the p50/p99/max request latency and the number of games
+ * hosted at the peak.</p>
+ *
+ * <p>Without {@code --port} or {@code --unix} the server is started in this
+ * JVM on an ephemeral port, and the heap used per hosted game is reported
+ * as well.</p>
+ *
+ * <p>Run: {@code java -cp out Server.LoadTest [--sessions N] [--games N]
+ * [--size N] [--seed N] [--port N | --unix path]}</p>
+ */
+public class LoadTest {
+
+    /** One connection and the games it plays. */
+    private static final class Session {
+        final BufferedReader in;
+        final BufferedWriter out;
+        long[] latencies = new long[1024];
+        int requests;
+
+        Session(SocketAddress address) throws IOException {
+            SocketChannel channel = address instanceof UnixDomainSocketAddress
+                    ? SocketChannel.open(StandardProtocolFamily.UNIX)
+                    : SocketChannel.open();
+            channel.connect(address);
+            in = new BufferedReader(new InputStreamReader(Channels.newInputStream(channel), StandardCharsets.US_ASCII));
+            out = new BufferedWriter(new OutputStreamWriter(Channels.newOutputStream(channel), StandardCharsets.US_ASCII));
+        }
+
+        /** Sends one request line, times it and returns the reply. */
+        String request(String line) throws IOException {
+            long start = System.nanoTime();
+            out.write(line);
+            out.write('\n');
+            out.flush();
+            String reply = in.readLine();
+            if (requests == latencies.length) {
+                latencies = Arrays.copyOf(latencies, requests * 2);
+            }
+            latencies[requests++] = System.nanoTime() - start;
+            if (reply == null) throw new IOException("Server closed the session");
+            return reply;
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        int sessions = 64;
+        int games = 10_000;
+        int size = 7;
+        long seed = 1;
+        boolean remote = false;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--sessions": sessions = Integer.parseInt(args[++i]); break;
+                case "--games": games = Integer.parseInt(args[++i]); break;
+                case "--size": size = Integer.parseInt(args[++i]); break;
+                case "--seed": seed = Long.parseLong(args[++i]); break;
+                case "--port": case "--unix": remote = true; i++; break;
+                default: throw new IllegalArgumentException("Unknown option -> " + args[i]);
+            }
+        }
+
+        GameServer server = null;
+        SocketAddress address;
+        long baseHeap = 0;
+        if (remote) {
+            address = GameServer.address(args, 7777);
+        } else {
+            baseHeap = usedHeap();
+            server = new GameServer(Runtime.getRuntime().availableProcessors(), 16);
+            server.start(new InetSocketAddress(java.net.InetAddress.getLoopbackAddress(), 0));
+            address = server.getLocalAddress();
+        }
+
+        Session[] all = new Session[sessions];
+        for (int s = 0; s < sessions; s++) {
+            all[s] = new Session(address);
+        }
+        CountDownLatch created = new CountDownLatch(sessions);
+        CountDownLatch go = new CountDownLatch(1);
+        ExecutorService threads = GameServer.virtualThreadExecutor();
+        if (threads == null) threads = Executors.newFixedThreadPool(sessions);
+
+        long[] start = new long[1];
+        for (int s = 0; s < sessions; s++) {
+            Session session = all[s];
+            int count = games / sessions + (s < games % sessions ? 1 : 0);
+            Random rnd = new Random(seed * 1_000_003 + s);
+            int finalSize = size;
+            threads.execute(() -> {
+                try {
+                    play(session, count, finalSize, rnd, created, go);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+
+        created.await();
+        if (server != null) {
+            long perGame = (usedHeap() - baseHeap) / Math.max(1, server.gameCount());
+            System.out.printf("%d games hosted, ~%d bytes of heap per game%n", server.gameCount(), perGame);
+        } else {
+            System.out.printf("%d games created%n", games);
+        }
+        start[0] = System.nanoTime();
+        go.countDown();
+        threads.shutdown();
+        threads.awaitTermination(1, TimeUnit.DAYS);
+        double seconds = (System.nanoTime() - start[0]) / 1e9;
+
+        int total = 0;
+        for (Session session : all) total += session.requests;
+        long[] latencies = new long[total];
+        int n = 0;
+        for (Session session : all) {
+            System.arraycopy(session.latencies, 0, latencies, n, session.requests);
+            n += session.requests;
+        }
+        Arrays.sort(latencies);
+        System.out.printf("%d sessions, %d requests in %.2fs: %.0f requests/s%n", sessions, total, seconds, total / seconds);
+        System.out.printf("latency p50 %.1f us, p99 %.1f us, max %.1f us%n",
+                percentile(latencies, 0.50) / 1e3, percentile(latencies, 0.99) / 1e3,
+                total == 0 ? 0 : latencies[total - 1] / 1e3);
+        if (server != null) server.close();
+    }
+
+    /**
+     * Creates {@code count} games, then plays them round robin to the end.
+     * Latencies of the game creation are not kept.
+     */
+    private static void play(Session session, int count, int size, Random rnd,
+                             CountDownLatch created, CountDownLatch go) throws IOException, InterruptedException {
+        long[] ids = new long[count];
+        for (int g = 0; g < count; g++) {
+            ids[g] = Long.parseLong(expectOk(session.request("NEW " + size)).trim());
+        }
+        session.requests = 0;
+        created.countDown();
+        go.await();
+
+        int live = count;
+        while (live > 0) {
+            for (int g = 0; g < live; g++) {
+                String moves = expectOk(session.request("MOVES " + ids[g]));
+                String[] parts = moves.trim().split(" ");
+                int n = Integer.parseInt(parts[0]);
+                String reply = expectOk(session.request(n == 0
+                        ? "PASS " + ids[g]
+                        : "MOVE " + ids[g] + " " + parts[1 + rnd.nextInt(n)]));
+                if (reply.endsWith("WON")) {
+                    session.request("END " + ids[g]);
+                    ids[g--] = ids[--live];
+                }
+            }
+        }
+        session.request("QUIT");
+    }
+
+    private static String expectOk(String reply) throws IOException {
+        if (!reply.startsWith("OK")) throw new IOException("Unexpected reply -> " + reply);
+        return reply.substring(2);
+    }
+
+    private static long percentile(long[] sorted, double p) {
+        return sorted.length == 0 ? 0 : sorted[Math.min(sorted.length - 1, (int) (p * sorted.length))];
+    }
+
+    private static long usedHeap() {
+        Runtime rt = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) System.gc();
+        return rt.totalMemory() - rt.freeMemory();
+    }
+}
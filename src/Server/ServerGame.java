@@ -0,0 +1,154 @@
+package Server;
+
+import Controller.Controller;
+import Controller.MoveBatch;
+import Controller.Position;
+import Model.BitBoard;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * One game hosted by a {@link GameServer}.
+ *
+ * <p>The game is an immutable {@link Position} (a few hundred bytes on
+ * base‑7, against some 30 KB for a live {@link Controller}) replaced on
+ * every move, plus a bounded queue of pending requests. Requests from any
+ * number of sessions are applied one at a time, in arrival order, by a task
+ * on the server's rules executor that drains the queue; no thread is tied to
+ * a game while it waits. When the queue is full a request is refused
+ * straight away instead of piling up.</p>
+ */
+final class ServerGame {
+    private static final int QUERY_STATE = -2;
+    private static final int QUERY_MOVES = -3;
+    private static final int QUERY_CHECK = -4;
+    private static final ThreadLocal<MoveBatch> BATCH = ThreadLocal.withInitial(MoveBatch::new);
+
+    private final long id;
+    private final Executor rules;
+    private final ArrayBlockingQueue<Request> queue;
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private Position position; // only touched by the drain task
+
+    private static final class Request {
+        final int cell;
+        final int[] candidates;
+        final CompletableFuture<String> reply = new CompletableFuture<>();
+
+        Request(int cell, int[] candidates) {
+            this.cell = cell;
+            this.candidates = candidates;
+        }
+    }
+
+    ServerGame(long id, int boardSize, Executor rules, int queueCapacity) {
+        this.id = id;
+        this.rules = rules;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.position = new Controller(boardSize).snapshot();
+    }
+
+    long getId() {
+        return id;
+    }
+
+    /** Plays cell {@code cell} (or {@link Controller#PASS}) for the player to move. */
+    CompletableFuture<String> move(int cell) {
+        if (cell < Controller.PASS) {
+            return CompletableFuture.completedFuture("ERR Invalid Cell Placement -> " + cell);
+        }
+        return submit(cell, null);
+    }
+
+    /** Player to move, status and stone counts. */
+    CompletableFuture<String> state() {
+        return submit(QUERY_STATE, null);
+    }
+
+    /** Valid moves of the player to move. */
+    CompletableFuture<String> validMoves() {
+        return submit(QUERY_MOVES, null);
+    }
+
+    /**
+     * Checks candidate moves without playing them: for each, in order,
+     * -1 if it may not be played, else the number of cells it would capture
+     * (more than 0 keeps the turn).
+     */
+    CompletableFuture<String> check(int[] candidates) {
+        return submit(QUERY_CHECK, candidates);
+    }
+
+    private CompletableFuture<String> submit(int cell, int[] candidates) {
+        Request request = new Request(cell, candidates);
+        if (!queue.offer(request)) {
+            return CompletableFuture.completedFuture("ERR Game is busy -> " + id);
+        }
+        if (scheduled.compareAndSet(false, true)) {
+            rules.execute(this::drain);
+        }
+        return request.reply;
+    }
+
+    private void drain() {
+        for (int n = queue.size(); n > 0; n--) { // a bounded batch, then yield to other games
+            Request request = queue.poll();
+            if (request == null) break;
+            String reply;
+            try {
+                reply = apply(request);
+            } catch (RuntimeException e) {
+                reply = "ERR " + e.getMessage();
+            }
+            request.reply.complete(reply);
+        }
+        scheduled.set(false);
+        if (!queue.isEmpty() && scheduled.compareAndSet(false, true)) {
+            rules.execute(this::drain);
+        }
+    }
+
+    private String apply(Request request) {
+        int cell = request.cell;
+        Position p = position;
+        if (cell == QUERY_STATE) {
+            return "OK " + status(p) + " " + p.count(BitBoard.RED) + " " + p.count(BitBoard.BLUE);
+        }
+        if (cell == QUERY_MOVES) {
+            int[] moves = p.validMoves();
+            StringBuilder sb = new StringBuilder("OK ").append(moves.length);
+            for (int m : moves) {
+                sb.append(' ').append(m);
+            }
+            return sb.toString();
+        }
+        if (cell == QUERY_CHECK) {
+            MoveBatch batch = p.checkMoves(request.candidates, request.candidates.length, BATCH.get());
+            StringBuilder sb = new StringBuilder("OK");
+            for (int i = 0; i < batch.size(); i++) {
+                sb.append(' ').append(batch.getCapturedCount(i));
+            }
+            return sb.toString();
+        }
+        if (p.getGameOver()) {
+            return "ERR Game over -> " + id;
+        }
+        if (cell >= p.cellCount()) {
+            return "ERR Invalid Cell Placement -> " + cell;
+        }
+        try {
+            position = p.play(cell);
+        } catch (IllegalArgumentException e) {
+            return "ERR " + e.getMessage();
+        }
+        return "OK " + status(position);
+    }
+
+    /** Player to move, then PLAYING or WON (the winner stays the player to move). */
+    private static String status(Position p) {
+        return p.getCurrentPlayer() + (p.getGameOver() ? " WON" : " PLAYING");
+    }
+}
@@ -0,0 +1,27 @@
+package Simulation;
+
+import Model.BitBoard;
+
+/**
+ * Outcome of one self‑play game.
+ */
+public final class GameResult {
+    /** {@link BitBoard#RED}, {@link BitBoard#BLUE}, or {@link BitBoard#NONE} if the ply limit was hit. */
+    public final int winner;
+    /** Stones placed, captures included. */
+    public final int moves;
+    /** Turns passed for lack of a valid move. */
+    public final int passes;
+
+    public GameResult(int winner, int moves, int passes) {
+        this.winner = winner;
+        this.moves = moves;
+        this.passes = passes;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("GameResult[winner:%s, moves:%d, passes:%d]",
+                winner == BitBoard.NONE ? "NONE" : BitBoard.playerName(winner), moves, passes);
+    }
+}
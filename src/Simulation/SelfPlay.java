@@ -0,0 +1,186 @@
+package Simulation;
+
+import AI.MovePolicy;
+import Archive.GameWriter;
+import Controller.Controller;
+import Model.BitBoard;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Headless self‑play between two {@link MovePolicy} instances.
+ *
+ * <p>Games run on {@link Controller}s without a GUI, one game at a time per
+ * worker thread, each thread with its own copies of the policies. Game
+ * {@code i} of a batch is always played with the seed derived from the
+ * batch seed and {@code i}, and the policies start it afresh
+ * ({@link MovePolicy#newGame()}), so a batch gives the same totals whatever
+ * the thread count or scheduling.</p>
+ *
+ * <p>Run: {@code java -cp out Simulation.SelfPlay [--games N] [--threads N]
+ * [--size N] [--red random|greedy] [--blue random|greedy] [--seed N]
+ * [--record file]}. With {@code --record} every game is also written to a
+ * {@link GameWriter} archive, in the order the games finish.</p>
+ */
+public class SelfPlay {
+    private final int boardSize;
+    private final MovePolicy red;
+    private final MovePolicy blue;
+    private final int maxPlies;
+
+    /**
+     * @param maxPlies turns (moves and passes) after which a game is
+     *                 abandoned as unfinished.
+     */
+    public SelfPlay(int boardSize, MovePolicy red, MovePolicy blue, int maxPlies) {
+        this.boardSize = boardSize;
+        this.red = red;
+        this.blue = blue;
+        this.maxPlies = maxPlies;
+    }
+
+    public SelfPlay(int boardSize, MovePolicy red, MovePolicy blue) {
+        this(boardSize, red, blue, 50 * (3 * boardSize * (boardSize - 1) + 1));
+    }
+
+    /**
+     * Plays one game to the end from a fresh board.
+     */
+    public static GameResult playGame(int boardSize, MovePolicy red, MovePolicy blue, Random rnd, int maxPlies) {
+        return playGame(boardSize, red, blue, rnd, maxPlies, null);
+    }
+
+    /**
+     * Plays one game to the end from a fresh board, storing each ply (a cell
+     * id, or {@link Controller#PASS}) in {@code plies} unless it is null.
+     * Both policies are told a new game starts ({@link MovePolicy#newGame()}).
+     * @param plies room for at least {@code maxPlies} plies, or null.
+     */
+    public static GameResult playGame(int boardSize, MovePolicy red, MovePolicy blue, Random rnd, int maxPlies,
+                                      int[] plies) {
+        red.newGame();
+        blue.newGame();
+        Controller game = new Controller(boardSize);
+        int moves = 0;
+        int passes = 0;
+        while (!game.getGameOver() && moves + passes < maxPlies) {
+            if (!game.hasValidMoves()) {
+                if (plies != null) plies[moves + passes] = Controller.PASS;
+                game.passTurn();
+                passes++;
+                continue;
+            }
+            MovePolicy policy = game.getCurrentPlayer().equals("RED") ? red : blue;
+            int cell = policy.chooseMove(game, rnd);
+            if (plies != null) plies[moves + passes] = cell;
+            game.handleMove(game.getBoard().getHexagon(cell));
+            moves++;
+        }
+        int winner = game.getGameOver() ? BitBoard.playerIndex(game.getCurrentPlayer()) : BitBoard.NONE;
+        return new GameResult(winner, moves, passes);
+    }
+
+    /**
+     * Plays {@code games} games across {@code threads} worker threads.
+     */
+    public SelfPlayStats run(long games, int threads, long seed) {
+        return run(games, threads, seed, null);
+    }
+
+    /**
+     * Plays {@code games} games across {@code threads} worker threads,
+     * writing each finished game to {@code record} unless it is null.
+     */
+    public SelfPlayStats run(long games, int threads, long seed, GameWriter record) {
+        ExecutorService pool = Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, "self-play");
+            t.setDaemon(true);
+            return t;
+        });
+        AtomicLong next = new AtomicLong();
+        long start = System.nanoTime();
+        try {
+            List<Future<SelfPlayStats>> workers = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                workers.add(pool.submit(() -> {
+                    MovePolicy r = red.copy(), b = blue.copy();
+                    SelfPlayStats stats = new SelfPlayStats();
+                    int[] plies = record == null ? null : new int[maxPlies];
+                    for (long i = next.getAndIncrement(); i < games; i = next.getAndIncrement()) {
+                        GameResult result = playGame(boardSize, r, b, new Random(gameSeed(seed, i)), maxPlies, plies);
+                        stats.add(result);
+                        if (record != null) {
+                            try {
+                                record.writeGame(plies, result.moves + result.passes, result.winner);
+                            } catch (IOException e) {
+                                throw new UncheckedIOException(e);
+                            }
+                        }
+                    }
+                    return stats;
+                }));
+            }
+            SelfPlayStats total = new SelfPlayStats();
+            for (Future<SelfPlayStats> worker : workers) {
+                total.merge(worker.get());
+            }
+            total.setNanos(System.nanoTime() - start);
+            return total;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Self-play interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Self-play game failed", e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /** Seed of game {@code index}: the batch seed and index mixed (SplitMix64 finaliser). */
+    static long gameSeed(long seed, long index) {
+        long z = seed + (index + 1) * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    public static void main(String[] args) throws IOException {
+        long games = 100_000;
+        int threads = Runtime.getRuntime().availableProcessors();
+        int size = 7;
+        long seed = 1;
+        String red = "random", blue = "random";
+        String record = null;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--games": games = Long.parseLong(args[++i]); break;
+                case "--threads": threads = Integer.parseInt(args[++i]); break;
+                case "--size": size = Integer.parseInt(args[++i]); break;
+                case "--seed": seed = Long.parseLong(args[++i]); break;
+                case "--red": red = args[++i]; break;
+                case "--blue": blue = args[++i]; break;
+                case "--record": record = args[++i]; break;
+                default: throw new IllegalArgumentException("Unknown option -> " + args[i]);
+            }
+        }
+        SelfPlay selfPlay = new SelfPlay(size, MovePolicy.named(red), MovePolicy.named(blue));
+        System.out.println("base-" + size + ", " + red + " (RED) vs " + blue + " (BLUE), " + threads + " threads");
+        if (record == null) {
+            System.out.println(selfPlay.run(games, threads, seed));
+            return;
+        }
+        try (GameWriter writer = new GameWriter(Paths.get(record), size)) {
+            System.out.println(selfPlay.run(games, threads, seed, writer));
+        }
+    }
+}
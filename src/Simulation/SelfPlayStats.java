@@ -0,0 +1,88 @@
+package Simulation;
+
+import Model.BitBoard;
+
+/**
+ * Totals over a batch of self‑play games. Each worker thread fills its own
+ * instance; they are merged once the batch is done.
+ */
+public final class SelfPlayStats {
+    private long games;
+    private long moves;
+    private long passes;
+    private final long[] wins = new long[2];
+    private long unfinished;
+    private long nanos;
+
+    void add(GameResult result) {
+        games++;
+        moves += result.moves;
+        passes += result.passes;
+        if (result.winner == BitBoard.NONE) {
+            unfinished++;
+        } else {
+            wins[result.winner]++;
+        }
+    }
+
+    void merge(SelfPlayStats other) {
+        games += other.games;
+        moves += other.moves;
+        passes += other.passes;
+        wins[0] += other.wins[0];
+        wins[1] += other.wins[1];
+        unfinished += other.unfinished;
+    }
+
+    void setNanos(long nanos) {
+        this.nanos = nanos;
+    }
+
+    public long getGames() {
+        return games;
+    }
+
+    public long getMoves() {
+        return moves;
+    }
+
+    public long getPasses() {
+        return passes;
+    }
+
+    /** @param player {@link BitBoard#RED} or {@link BitBoard#BLUE}. */
+    public long getWins(int player) {
+        return wins[player];
+    }
+
+    /** Games stopped at the ply limit without a winner. */
+    public long getUnfinished() {
+        return unfinished;
+    }
+
+    public double gamesPerSecond() {
+        return nanos == 0 ? 0 : games * 1e9 / nanos;
+    }
+
+    public double averageLength() {
+        return games == 0 ? 0 : moves / (double) games;
+    }
+
+    /** Share of turns that were passes rather than placements. */
+    public double passFrequency() {
+        long turns = moves + passes;
+        return turns == 0 ? 0 : passes / (double) turns;
+    }
+
+    public double winRate(int player) {
+        return games == 0 ? 0 : wins[player] / (double) games;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d games in %.2fs: %.0f games/s (%.2fM/h), avg length %.1f moves, "
+                        + "pass frequency %.4f, RED wins %.2f%%, BLUE wins %.2f%%, unfinished %d",
+                games, nanos / 1e9, gamesPerSecond(), gamesPerSecond() * 3600 / 1e6, averageLength(),
+                passFrequency(), 100 * winRate(BitBoard.RED), 100 * winRate(BitBoard.BLUE), unfinished);
+    }
+}
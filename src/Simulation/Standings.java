@@ -0,0 +1,219 @@
+package Simulation;
+
+import Model.BitBoard;
+
+import java.util.Arrays;
+
+/**
+ * Scores of a round‑robin {@link Tournament}, and the Elo ratings fitted
+ * to them.
+ *
+ * <h6>Ratings</h6>
+ * Ratings are the maximum‑likelihood fit of the Bradley‑Terry model (the
+ * logistic Elo curve) to every game, found by Hunter's MM iteration and
+ * centred on a mean of 0. A win scores 1, an unfinished game ½. As in
+ * BayesElo, one virtual draw between every pair of players acts as a prior,
+ * so a player who lost every game still gets a finite rating. The ± figure
+ * is a 95% confidence interval from the curvature of the likelihood at the
+ * fit; it shrinks with the square root of the number of games.
+ *
+ * <p>Games may be added from several threads.</p>
+ */
+public final class Standings {
+    private static final double ELO_PER_NATURAL = 400 / Math.log(10);
+    private static final double Z95 = 1.96;
+
+    private final String[] names;
+    private final double[][] score;
+    private final long[][] games;
+    private final long[] wins = new long[2];
+    private long unfinished;
+    private long total;
+
+    public Standings(String[] names) {
+        this.names = names.clone();
+        this.score = new double[names.length][names.length];
+        this.games = new long[names.length][names.length];
+    }
+
+    /**
+     * Adds a game between players {@code red} and {@code blue} (indexes into
+     * the names).
+     * @param winner {@link BitBoard#RED}, {@link BitBoard#BLUE}, or
+     *               {@link BitBoard#NONE} for an unfinished game.
+     */
+    public synchronized void add(int red, int blue, int winner) {
+        games[red][blue]++;
+        games[blue][red]++;
+        if (winner == BitBoard.NONE) {
+            score[red][blue] += 0.5;
+            score[blue][red] += 0.5;
+            unfinished++;
+        } else {
+            score[winner == BitBoard.RED ? red : blue][winner == BitBoard.RED ? blue : red] += 1;
+            wins[winner]++;
+        }
+        total++;
+    }
+
+    public int playerCount() {
+        return names.length;
+    }
+
+    public String getName(int player) {
+        return names[player];
+    }
+
+    public synchronized long getGames() {
+        return total;
+    }
+
+    /** @return games of {@code player}, as RED or BLUE. */
+    public synchronized long getGames(int player) {
+        long n = 0;
+        for (long g : games[player]) n += g;
+        return n;
+    }
+
+    /** @return share of the points {@code player} scored, between 0 and 1. */
+    public synchronized double getScore(int player) {
+        double points = 0;
+        for (double s : score[player]) points += s;
+        long n = getGames(player);
+        return n == 0 ? 0 : points / n;
+    }
+
+    /** @param side {@link BitBoard#RED} or {@link BitBoard#BLUE}. */
+    public synchronized long getWins(int side) {
+        return wins[side];
+    }
+
+    public synchronized long getUnfinished() {
+        return unfinished;
+    }
+
+    /** @return the Elo rating of each player, averaging 0. */
+    public double[] ratings() {
+        double[] theta = fit();
+        double[] elo = new double[theta.length];
+        for (int i = 0; i < theta.length; i++) {
+            elo[i] = theta[i] * ELO_PER_NATURAL;
+        }
+        return elo;
+    }
+
+    /** @return the half‑width of the 95% confidence interval of each rating, in Elo. */
+    public double[] errors() {
+        double[] theta = fit();
+        int n = theta.length;
+        // Fisher information: a graph Laplacian, singular along the common offset
+        double[][] info = new double[n][n];
+        synchronized (this) {
+            for (int i = 0; i < n; i++) {
+                for (int j = 0; j < n; j++) {
+                    if (i == j) continue;
+                    double p = 1 / (1 + Math.exp(theta[j] - theta[i]));
+                    double w = (games[i][j] + 1) * p * (1 - p);
+                    info[i][j] -= w;
+                    info[i][i] += w;
+                }
+            }
+        }
+        // Covariance of mean-centred ratings: the pseudo-inverse (L + J/n)^-1 - J/n
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                info[i][j] += 1.0 / n;
+            }
+        }
+        double[][] covariance = invert(info);
+        double[] errors = new double[n];
+        for (int i = 0; i < n; i++) {
+            errors[i] = Z95 * Math.sqrt(Math.max(0, covariance[i][i] - 1.0 / n)) * ELO_PER_NATURAL;
+        }
+        return errors;
+    }
+
+    /** Natural‑log strengths by MM iteration, centred on 0. */
+    private synchronized double[] fit() {
+        int n = names.length;
+        double[] gamma = new double[n];
+        Arrays.fill(gamma, 1);
+        for (int iteration = 0; iteration < 10_000; iteration++) {
+            double change = 0;
+            for (int i = 0; i < n; i++) {
+                double points = 0, expected = 0;
+                for (int j = 0; j < n; j++) {
+                    if (i == j) continue;
+                    points += score[i][j] + 0.5;
+                    expected += (games[i][j] + 1) / (gamma[i] + gamma[j]);
+                }
+                double next = points / expected;
+                change = Math.max(change, Math.abs(Math.log(next / gamma[i])));
+                gamma[i] = next;
+            }
+            double logMean = 0;
+            for (double g : gamma) logMean += Math.log(g) / n;
+            for (int i = 0; i < n; i++) {
+                gamma[i] /= Math.exp(logMean);
+            }
+            if (change < 1e-10) break;
+        }
+        double[] theta = new double[n];
+        for (int i = 0; i < n; i++) {
+            theta[i] = Math.log(gamma[i]);
+        }
+        return theta;
+    }
+
+    /** Gauss‑Jordan inverse with partial pivoting; {@code m} is overwritten. */
+    private static double[][] invert(double[][] m) {
+        int n = m.length;
+        double[][] inverse = new double[n][n];
+        for (int i = 0; i < n; i++) {
+            inverse[i][i] = 1;
+        }
+        for (int col = 0; col < n; col++) {
+            int pivot = col;
+            for (int row = col + 1; row < n; row++) {
+                if (Math.abs(m[row][col]) > Math.abs(m[pivot][col])) pivot = row;
+            }
+            double[] t = m[col]; m[col] = m[pivot]; m[pivot] = t;
+            t = inverse[col]; inverse[col] = inverse[pivot]; inverse[pivot] = t;
+            double d = m[col][col];
+            for (int k = 0; k < n; k++) {
+                m[col][k] /= d;
+                inverse[col][k] /= d;
+            }
+            for (int row = 0; row < n; row++) {
+                if (row == col || m[row][col] == 0) continue;
+                double f = m[row][col];
+                for (int k = 0; k < n; k++) {
+                    m[row][k] -= f * m[col][k];
+                    inverse[row][k] -= f * inverse[col][k];
+                }
+            }
+        }
+        return inverse;
+    }
+
+    /** Players by rating, with their interval, games and score. */
+    @Override
+    public String toString() {
+        double[] elo = ratings();
+        double[] errors = errors();
+        Integer[] order = new Integer[names.length];
+        for (int i = 0; i < order.length; i++) order[i] = i;
+        Arrays.sort(order, (a, b) -> Double.compare(elo[b], elo[a]));
+        StringBuilder table = new StringBuilder(String.format("%4s  %-20s %7s %7s %8s %7s%n",
+                "rank", "player", "elo", "+/-95%", "games", "score"));
+        for (int rank = 0; rank < order.length; rank++) {
+            int i = order[rank];
+            table.append(String.format("%4d  %-20s %+7.1f %7.1f %8d %6.1f%%%n",
+                    rank + 1, names[i], elo[i], errors[i], getGames(i), 100 * getScore(i)));
+        }
+        long games = getGames();
+        return table.append(String.format("%d games, RED wins %.2f%%, BLUE wins %.2f%%, unfinished %d",
+                games, games == 0 ? 0 : 100.0 * getWins(BitBoard.RED) / games,
+                games == 0 ? 0 : 100.0 * getWins(BitBoard.BLUE) / games, getUnfinished())).toString();
+    }
+}
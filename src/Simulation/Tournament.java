@@ -0,0 +1,268 @@
+package Simulation;
+
+import AI.MovePolicy;
+import Model.BitBoard;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Round‑robin tournament between any number of {@link MovePolicy} players,
+ * rated by Elo.
+ *
+ * <p>Every pair of players meets for the same number of games, and they
+ * take turns playing RED, so the first‑move advantage cancels out. The
+ * schedule cycles through the pairings, so a run stopped part way has
+ * rated every pair about equally. Game
+ * {@code g} of the schedule always has the same pairing, colours and seed
+ * (derived as in {@link SelfPlay}). Games run on a fixed pool of worker
+ * threads, each with its own copies of the players, taking the next
+ * scheduled game when they finish one; nothing is queued beyond one game
+ * per thread. A copy plays many games, but is told before each one
+ * ({@link MovePolicy#newGame()}), so no game depends on which games its
+ * worker played before, and a tournament gives the same {@link Standings}
+ * whatever the thread count.</p>
+ *
+ * <h6>Results file</h6>
+ * Each game is written as a CSV line as soon as it finishes:
+ * {@code game,red,blue,winner,moves,passes}, with the winner {@code RED},
+ * {@code BLUE} or {@code NONE} for a game stopped at the ply limit. Lines
+ * are in the order games finish and the file is flushed every second or so,
+ * so it can be rated while a long run is still going with {@code --report}.
+ *
+ * <p>Run: {@code java -cp out Simulation.Tournament --players
+ * random,greedy,alphabeta [--games N] [--threads N] [--size N] [--seed N]
+ * [--out results.csv]}, with {@code --games} per pair of players, or
+ * {@code java -cp out Simulation.Tournament --report results.csv}. A player
+ * is a name known to {@link MovePolicy#named(String)} or the class name of
+ * a policy with a no‑argument constructor.</p>
+ */
+public class Tournament {
+    private static final String HEADER = "game,red,blue,winner,moves,passes";
+    private static final long FLUSH_NANOS = 1_000_000_000L;
+
+    private final int boardSize;
+    private final List<MovePolicy> players;
+    private final String[] names;
+    private final int maxPlies;
+
+    /**
+     * @param maxPlies turns (moves and passes) after which a game is
+     *                 abandoned as unfinished.
+     */
+    public Tournament(int boardSize, List<MovePolicy> players, int maxPlies) {
+        if (players.size() < 2) {
+            throw new IllegalArgumentException("Not enough players -> " + players.size());
+        }
+        this.boardSize = boardSize;
+        this.players = new ArrayList<>(players);
+        this.names = names(players);
+        this.maxPlies = maxPlies;
+    }
+
+    public Tournament(int boardSize, List<MovePolicy> players) {
+        this(boardSize, players, 50 * (3 * boardSize * (boardSize - 1) + 1));
+    }
+
+    /** Player names, with {@code #2}, {@code #3}... added to repeated ones. */
+    private static String[] names(List<MovePolicy> players) {
+        String[] names = new String[players.size()];
+        Map<String, Integer> seen = new LinkedHashMap<>();
+        for (int i = 0; i < names.length; i++) {
+            String name = players.get(i).name();
+            int n = seen.merge(name, 1, Integer::sum);
+            names[i] = n == 1 ? name : name + "#" + n;
+        }
+        return names;
+    }
+
+    /** @return the players' names as they appear in reports and results. */
+    public String[] getNames() {
+        return names.clone();
+    }
+
+    /**
+     * Plays {@code gamesPerPair} games between every pair of players across
+     * {@code threads} worker threads.
+     * @param results where to stream one CSV line per finished game, or null.
+     */
+    public Standings run(int gamesPerPair, int threads, long seed, Writer results) throws IOException {
+        int n = players.size();
+        int[][] pairs = new int[n * (n - 1) / 2][];
+        for (int i = 0, p = 0; i < n; i++) {
+            for (int j = i + 1; j < n; j++) {
+                pairs[p++] = new int[]{i, j};
+            }
+        }
+        long games = (long) pairs.length * gamesPerPair;
+        Standings standings = new Standings(names);
+        if (results != null) {
+            results.write(HEADER + "\n");
+        }
+        long[] lastFlush = {System.nanoTime()};
+        ExecutorService pool = Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, "tournament");
+            t.setDaemon(true);
+            return t;
+        });
+        AtomicLong next = new AtomicLong();
+        try {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                workers.add(pool.submit(() -> {
+                    MovePolicy[] copies = new MovePolicy[n];
+                    for (int i = 0; i < n; i++) {
+                        copies[i] = players.get(i).copy();
+                    }
+                    for (long g = next.getAndIncrement(); g < games; g = next.getAndIncrement()) {
+                        // Pairings take turns, and colours alternate within a pairing
+                        int[] pair = pairs[(int) (g % pairs.length)];
+                        int red = (g / pairs.length) % 2 == 0 ? pair[0] : pair[1];
+                        int blue = red == pair[0] ? pair[1] : pair[0];
+                        GameResult result = SelfPlay.playGame(boardSize, copies[red], copies[blue],
+                                new Random(SelfPlay.gameSeed(seed, g)), maxPlies);
+                        standings.add(red, blue, result.winner);
+                        if (results != null) {
+                            write(results, lastFlush, g + "," + names[red] + "," + names[blue] + ","
+                                    + (result.winner == BitBoard.NONE ? "NONE" : BitBoard.playerName(result.winner))
+                                    + "," + result.moves + "," + result.passes + "\n");
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+            if (results != null) {
+                results.flush();
+            }
+            return standings;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Tournament interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Tournament game failed", e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /** Appends one result line, flushing if the last flush was a while ago. */
+    private static void write(Writer results, long[] lastFlush, String line) {
+        synchronized (results) {
+            try {
+                results.write(line);
+                long now = System.nanoTime();
+                if (now - lastFlush[0] > FLUSH_NANOS) {
+                    results.flush();
+                    lastFlush[0] = now;
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * Rates the games of a results file, which may still be being written:
+     * a last line without its end is ignored.
+     */
+    public static Standings report(BufferedReader results) throws IOException {
+        List<String[]> rows = new ArrayList<>();
+        Map<String, Integer> players = new LinkedHashMap<>();
+        String line = results.readLine();
+        if (line == null || !line.equals(HEADER)) {
+            throw new IOException("Not a tournament results file -> " + line);
+        }
+        while ((line = results.readLine()) != null) {
+            String[] fields = line.split(",");
+            if (fields.length != 6) continue;
+            players.putIfAbsent(fields[1], players.size());
+            players.putIfAbsent(fields[2], players.size());
+            rows.add(fields);
+        }
+        Standings standings = new Standings(players.keySet().toArray(new String[0]));
+        for (String[] fields : rows) {
+            int winner = fields[3].equals("NONE") ? BitBoard.NONE : BitBoard.playerIndex(fields[3]);
+            standings.add(players.get(fields[1]), players.get(fields[2]), winner);
+        }
+        return standings;
+    }
+
+    /**
+     * A policy by {@link MovePolicy#named(String)} name, or else by the class
+     * name of a policy with a no‑argument constructor.
+     * @throws IllegalArgumentException if neither finds one.
+     */
+    static MovePolicy player(String name) {
+        if (!name.contains(".")) {
+            return MovePolicy.named(name);
+        }
+        try {
+            return (MovePolicy) Class.forName(name).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | ClassCastException e) {
+            throw new IllegalArgumentException("Unknown policy -> " + name, e);
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        int games = 1000;
+        int threads = Runtime.getRuntime().availableProcessors();
+        int size = 7;
+        long seed = 1;
+        String players = "random,greedy";
+        String out = null, report = null;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--players": players = args[++i]; break;
+                case "--games": games = Integer.parseInt(args[++i]); break;
+                case "--threads": threads = Integer.parseInt(args[++i]); break;
+                case "--size": size = Integer.parseInt(args[++i]); break;
+                case "--seed": seed = Long.parseLong(args[++i]); break;
+                case "--out": out = args[++i]; break;
+                case "--report": report = args[++i]; break;
+                default: throw new IllegalArgumentException("Unknown option -> " + args[i]);
+            }
+        }
+        if (report != null) {
+            try (BufferedReader reader = Files.newBufferedReader(Paths.get(report))) {
+                System.out.println(report(reader));
+            }
+            return;
+        }
+        List<MovePolicy> policies = new ArrayList<>();
+        for (String name : players.split(",")) {
+            policies.add(player(name.trim()));
+        }
+        Tournament tournament = new Tournament(size, policies);
+        System.out.println("base-" + size + ", " + String.join(", ", tournament.getNames()) + ", "
+                + games + " games per pair, " + threads + " threads");
+        long start = System.nanoTime();
+        Standings standings;
+        if (out == null) {
+            standings = tournament.run(games, threads, seed, null);
+        } else {
+            try (Writer writer = Files.newBufferedWriter(Paths.get(out))) {
+                standings = tournament.run(games, threads, seed, writer);
+            }
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.println(standings);
+        System.out.printf("%.2f s, %.0f games/s%n", seconds, standings.getGames() / seconds);
+    }
+}
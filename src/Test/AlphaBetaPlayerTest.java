@@ -0,0 +1,151 @@
+package Test;
+
+import AI.AlphaBetaPlayer;
+import AI.MctsPlayer;
+import AI.SearchResult;
+import Controller.Controller;
+import Model.BitBoard;
+import Model.Hexagon;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.*;
+
+public class AlphaBetaPlayerTest {
+    private Controller c;
+
+    @BeforeEach
+    void setUp() {
+        c = new Controller();
+    }
+
+    /**
+     * Tests that a capture keeps the turn inside the search: RED wins with two
+     * captures in a row, which only a depth-2 search can see.
+     */
+    @Test
+    void testConsecutiveCapturesBySameSide() {
+        c.getBoard().cellAt(0, 0).setOwner("RED");
+        c.getBoard().cellAt(1, 0).setOwner("BLUE");
+        c.getBoard().cellAt(-4, 0).setOwner("RED");
+        c.getBoard().cellAt(-3, 0).setOwner("BLUE");
+
+        SearchResult shallow = new AlphaBetaPlayer(1, 0).search(c);
+        assertTrue(shallow.value < AlphaBetaPlayer.WIN - 100);
+
+        SearchResult deep = new AlphaBetaPlayer(2, 0).search(c);
+        assertEquals(AlphaBetaPlayer.WIN - 2, (int) deep.value);
+        c.handleMove(c.getBoard().getHexagon(deep.move));
+        assertEquals("RED", c.getCurrentPlayer()); // the first capture kept the turn
+    }
+
+    /**
+     * Tests that a player with no valid move is given a pass.
+     */
+    @Test
+    void testPassWhenNoValidMoves() {
+        Controller tiny = new Controller(1);
+        tiny.handleMove(tiny.getBoard().getHexagon(0));
+        assertEquals(MctsPlayer.PASS, new AlphaBetaPlayer(3, 0).search(tiny).move);
+    }
+
+    /**
+     * Tests that a fixed-depth search is reproducible and leaves the game as it was.
+     */
+    @Test
+    void testFixedDepthIsReproducible() {
+        c.handleMove(c.getBoard().cellAt(0, 0));
+        c.handleMove(c.getBoard().cellAt(4, -2));
+        SearchResult first = new AlphaBetaPlayer(3, 0).search(c);
+        SearchResult second = new AlphaBetaPlayer(3, 0).search(c);
+
+        assertEquals(first.move, second.move);
+        assertEquals(first.value, second.value);
+        assertEquals(first.work, second.work);
+        assertEquals(3, first.depth);
+        assertEquals("RED", c.getCurrentPlayer());
+        assertEquals(2, c.getBoard().getBitBoard().count(BitBoard.RED) + c.getBoard().getBitBoard().count(BitBoard.BLUE));
+    }
+
+    /**
+     * Tests that a player reused along whole games searches exactly like a
+     * fresh one in every position: nothing carries over between searches.
+     */
+    @Test
+    void testReusedPlayerMatchesFresh() {
+        AlphaBetaPlayer reused = new AlphaBetaPlayer(3, 0);
+        Random rnd = new Random(3);
+        for (int game = 0; game < 4; game++) {
+            Controller pos = new Controller(5);
+            while (!pos.getGameOver()) {
+                if (!pos.hasValidMoves()) {
+                    pos.passTurn();
+                    continue;
+                }
+                SearchResult again = reused.search(pos);
+                SearchResult fresh = new AlphaBetaPlayer(3, 0).search(pos);
+                assertEquals(fresh.move, again.move);
+                assertEquals(fresh.value, again.value);
+                assertEquals(fresh.work, again.work);
+                List<Hexagon> moves = pos.getValidMoves();
+                pos.handleMove(rnd.nextInt(4) == 0 ? moves.get(rnd.nextInt(moves.size()))
+                        : pos.getBoard().getHexagon(again.move));
+            }
+        }
+    }
+
+    /**
+     * Tests that pruning and the transposition table don't change the score:
+     * alpha-beta agrees with a plain minimax over random positions on a small board.
+     */
+    @Test
+    void testScoreMatchesPlainMinimax() {
+        Random rnd = new Random(11);
+        for (int game = 0; game < 6; game++) {
+            Controller pos = new Controller(3);
+            int plies = rnd.nextInt(10);
+            for (int i = 0; i < plies && !pos.getGameOver(); i++) {
+                List<Hexagon> moves = pos.getValidMoves();
+                if (moves.isEmpty()) {
+                    pos.passTurn();
+                } else {
+                    pos.handleMove(moves.get(rnd.nextInt(moves.size())));
+                }
+            }
+            if (pos.getGameOver()) continue;
+            SearchResult result = new AlphaBetaPlayer(4, 0).search(pos);
+            assertEquals(minimax(pos, 4, 0), (int) result.value);
+        }
+    }
+
+    /**
+     * Helper: negamax without pruning or table, with the same turn and pass rules.
+     */
+    private int minimax(Controller pos, int depth, int ply) {
+        if (pos.getGameOver()) return AlphaBetaPlayer.WIN - ply;
+        int player = BitBoard.playerIndex(pos.getCurrentPlayer());
+        BitBoard bits = pos.getBoard().getBitBoard();
+        int eval = 100 * (bits.count(player) - bits.count(BitBoard.opponent(player)));
+        if (depth == 0) return eval;
+
+        List<Integer> moves = new ArrayList<>();
+        if (pos.hasValidMoves()) {
+            for (Hexagon h : pos.getValidMoves()) moves.add(h.getId());
+        } else if (pos.getRules().hasValidMove(BitBoard.opponent(player))) {
+            moves.add(MctsPlayer.PASS);
+        } else {
+            return eval;
+        }
+        int best = Integer.MIN_VALUE;
+        for (int move : moves) {
+            Controller child = pos.copy();
+            if (move == MctsPlayer.PASS) child.passTurn();
+            else child.handleMove(child.getBoard().getHexagon(move));
+            int score = child.getCurrentPlayer().equals(pos.getCurrentPlayer())
+                    ? minimax(child, depth - 1, ply + 1)
+                    : -minimax(child, depth - 1, ply + 1);
+            best = Math.max(best, score);
+        }
+        return best;
+    }
+}
@@ -0,0 +1,103 @@
+package Test;
+
+import Controller.BitRules;
+import Model.BitBoard;
+import Model.Board;
+import Model.Hexagon;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BitBoardTest {
+
+    /**
+     * Tests that setting the owner of a board hexagon is mirrored into the
+     * bitboard, and that clearing it removes the bit again.
+     */
+    @Test
+    void testSetOwnerUpdatesBitBoard() {
+        Board board = new Board();
+        BitBoard bits = board.getBitBoard();
+        Hexagon h = board.getHexagons().get(70);
+
+        h.setOwner("BLUE");
+        assertEquals(BitBoard.BLUE, bits.owner(70));
+        assertEquals(1, bits.count(BitBoard.BLUE));
+
+        h.setOwner(null);
+        assertEquals(BitBoard.NONE, bits.owner(70));
+        assertEquals(0, bits.count(BitBoard.BLUE));
+    }
+
+    /**
+     * Tests that cells get ids matching their index on the board
+     * and that detached hexagons have no id.
+     */
+    @Test
+    void testCellIdsMatchBoardIndex() {
+        Board board = new Board();
+        for (int i = 0; i < board.getHexagons().size(); i++) {
+            assertEquals(i, board.getHexagons().get(i).getId());
+        }
+        assertEquals(-1, new Hexagon(0, 0, 0).getId());
+    }
+
+    /**
+     * Tests the mask width: the 127 cells of a base-7 board fit into two
+     * words, a base-25 board (1801 cells) needs 29.
+     */
+    @Test
+    void testMaskWordsForBoardSize() {
+        assertEquals(2, new Board().getBitBoard().words());
+        assertEquals(1801, new Board(25).getBitBoard().cellCount());
+        assertEquals(29, new Board(25).getBitBoard().words());
+    }
+
+    /**
+     * Tests ownsNeighbor() on the bitboard: only the six cells around an
+     * owned center hexagon report an owned neighbor.
+     */
+    @Test
+    void testOwnsNeighbor() {
+        Board board = new Board();
+        BitBoard bits = board.getBitBoard();
+        Hexagon center = board.cellAt(0, 0);
+        center.setOwner("RED");
+
+        int touching = 0;
+        for (Hexagon h : board.getHexagons()) {
+            if (bits.ownsNeighbor(BitBoard.RED, h.getId())) touching++;
+            assertFalse(bits.ownsNeighbor(BitBoard.BLUE, h.getId()));
+        }
+        assertEquals(6, touching);
+    }
+
+    /**
+     * Tests that a board hexagon can't be given an owner that is not a player.
+     */
+    @Test
+    void testUnknownOwnerRejected() {
+        Board board = new Board();
+        assertThrows(IllegalArgumentException.class, () -> board.getHexagons().get(0).setOwner("GREEN"));
+    }
+
+    /**
+     * Tests the bitboard capture rule: a group of two captures an adjacent
+     * single opponent hexagon, while a group only as large as the adjacent
+     * opponent group can't be formed.
+     */
+    @Test
+    void testCaptureMoveOnBitBoard() {
+        Board board = new Board();
+        BitRules rules = new BitRules(board);
+        board.getHexagons().get(0).setOwner("RED");  // q:-6, r:0, s:6
+        board.getHexagons().get(1).setOwner("BLUE"); // q:-6, r:1, s:5
+
+        // RED at index 7 joins index 0 and touches BLUE at index 1
+        assertEquals(1, rules.captureMove(BitBoard.RED, 7));
+        assertEquals(1, rules.captured[0]);
+
+        // With RED [0,7] in place, BLUE [1,2] would be the same size -> size conflict
+        board.getHexagons().get(7).setOwner("RED");
+        assertEquals(BitRules.INVALID, rules.captureMove(BitBoard.BLUE, 2));
+    }
+}
@@ -0,0 +1,86 @@
+package Test;
+
+import Controller.Controller;
+import Controller.Position;
+import Model.BitBoard;
+import View.BoardCanvas;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+
+public class BoardCanvasTest {
+
+    /** The valid moves of {@code position} as one bit per cell id. */
+    private static long[] valid(Position position) {
+        long[] bits = new long[position.words()];
+        for (int id : position.validMoves()) {
+            bits[id >>> 6] |= 1L << id;
+        }
+        return bits;
+    }
+
+    /** Colour a cell is drawn in: its owner, or whether it is highlighted. */
+    private static int colour(Position position, long[] valid, int id) {
+        int owner = position.getOwner(id);
+        if (owner != BitBoard.NONE) return owner;
+        return (valid[id >>> 6] & (1L << id)) != 0 ? 2 : 3;
+    }
+
+    /**
+     * Tests that after a capture only the placed cell, the captured cell and
+     * the cells whose highlight changed are redrawn, and that the buffer
+     * then matches a canvas that drew the new position from scratch.
+     */
+    @Test
+    void testRedrawsOnlyChangedCells() {
+        Controller c = new Controller(3);
+        c.getBoard().cellAt(0, 0).setOwner("RED");
+        c.getBoard().cellAt(1, 0).setOwner("BLUE");
+        c.getBoard().cellAt(-2, 2).setOwner("BLUE");
+        Position before = c.snapshot();
+        int placed = c.getBoard().idAt(1, -1);
+        int captured = c.getBoard().idAt(1, 0);
+        c.makeMove(placed);
+        Position after = c.snapshot();
+        assertEquals(BitBoard.NONE, after.getOwner(captured));
+
+        BoardCanvas canvas = new BoardCanvas(c.getBoard());
+        canvas.show(before, valid(before));
+        assertEquals(before.cellCount(), canvas.getRedrawn().length);
+        canvas.show(after, valid(after));
+
+        List<Integer> expected = new ArrayList<>();
+        long[] validBefore = valid(before), validAfter = valid(after);
+        for (int id = 0; id < after.cellCount(); id++) {
+            if (colour(before, validBefore, id) != colour(after, validAfter, id)) expected.add(id);
+        }
+        int[] redrawn = canvas.getRedrawn();
+        assertEquals(expected.size(), redrawn.length);
+        for (int i = 0; i < redrawn.length; i++) {
+            assertEquals((int) expected.get(i), redrawn[i]);
+        }
+        assertTrue(expected.contains(placed) && expected.contains(captured));
+        assertTrue(redrawn.length < after.cellCount());
+
+        BoardCanvas fresh = new BoardCanvas(c.getBoard());
+        fresh.show(after, valid(after));
+        assertSamePixels(fresh.getBuffer(), canvas.getBuffer());
+
+        canvas.show(after, valid(after));
+        assertEquals(0, canvas.getRedrawn().length);
+    }
+
+    private static void assertSamePixels(BufferedImage expected, BufferedImage actual) {
+        assertEquals(expected.getWidth(), actual.getWidth());
+        assertEquals(expected.getHeight(), actual.getHeight());
+        for (int y = 0; y < expected.getHeight(); y++) {
+            for (int x = 0; x < expected.getWidth(); x++) {
+                if (expected.getRGB(x, y) != actual.getRGB(x, y)) {
+                    fail("Pixel differs at " + x + "," + y);
+                }
+            }
+        }
+    }
+}
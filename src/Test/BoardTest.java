@@ -2,6 +2,7 @@ package Test;
 
 import Model.Board;
 import Model.Hexagon;
+import Model.Layout;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
 import java.util.*;
@@ -105,4 +106,147 @@ public class BoardTest {
         Hexagon h = board.getHexagonAt(0, 0);
         assertNull(h);
     }
+
+    /**
+     * Tests that getHexagonAt() maps the centre pixel of every cell, and points
+     * well inside it, back to that cell on the standard and a larger board.
+     */
+    @Test
+    void testGetHexagonAtFindsEveryCell() {
+        for (int size : new int[]{7, 20}) {
+            Board board = new Board(size);
+            Layout layout = board.getLayout();
+            int inside = layout.getHexSize() / 2;
+            for (Hexagon h : board.getHexagons()) {
+                int x = (int) Math.round(layout.centerX(h.q, h.r));
+                int y = (int) Math.round(layout.centerY(h.q, h.r));
+                assertSame(h, board.getHexagonAt(x, y));
+                assertSame(h, board.getHexagonAt(x + inside, y));
+                assertSame(h, board.getHexagonAt(x, y - inside));
+            }
+        }
+    }
+
+    /**
+     * Tests that points just past the rim of the board, and far outside the
+     * canvas, return null.
+     */
+    @Test
+    void testGetHexagonAtOutsideRim() {
+        Board board = new Board();
+        Layout layout = board.getLayout();
+        Hexagon rim = board.cellAt(6, 0);
+        int x = (int) Math.round(layout.centerX(rim.q, rim.r));
+        int y = (int) Math.round(layout.centerY(rim.q, rim.r));
+        assertSame(rim, board.getHexagonAt(x + layout.getHexSize() / 2, y));
+        assertNull(board.getHexagonAt(x + layout.getHexSize() * 2, y));
+        assertNull(board.getHexagonAt(-100_000, 375));
+        assertNull(board.getHexagonAt(Integer.MAX_VALUE, Integer.MIN_VALUE));
+    }
+
+    /**
+     * Tests that cellAt() returns the board's own hexagon for every cell's
+     * coordinates, and null for coordinates outside the board.
+     */
+    @Test
+    void testCellAtFindsEveryCell() {
+        Board board = new Board();
+        for (Hexagon h : board.getHexagons()) {
+            assertSame(h, board.cellAt(h.q, h.r));
+            assertEquals(h.getId(), board.idAt(h.q, h.r));
+        }
+        assertNull(board.cellAt(7, 0));    // beyond the rim
+        assertNull(board.cellAt(6, 6));    // inside the bounding square, off the hexagon
+        assertEquals(-1, board.idAt(-7, 3));
+    }
+
+    /**
+     * Tests the precomputed neighbor table against Hexagon.neighbor():
+     * each direction leads to the board cell at the neighbor's coordinates,
+     * or -1 when that neighbor is off the board.
+     */
+    @Test
+    void testNeighborTableMatchesDirections() {
+        Board board = new Board();
+        for (Hexagon h : board.getHexagons()) {
+            int onBoard = 0;
+            for (int dir = 0; dir < 6; dir++) {
+                Hexagon n = h.neighbor(dir);
+                assertEquals(board.idAt(n.q, n.r), board.neighborId(h.getId(), dir));
+                if (board.cellAt(n.q, n.r) != null) onBoard++;
+            }
+            assertEquals(onBoard, board.neighborsOf(h).size());
+        }
+    }
+
+    /**
+     * Tests that Board.neighbor() and forEachNeighbor() return the board's own
+     * cells, for board cells and detached hexagons alike.
+     */
+    @Test
+    void testNeighborReturnsBoardCells() {
+        Board board = new Board();
+        Hexagon center = board.cellAt(0, 0);
+        center.setOwner("RED");
+        Hexagon right = board.cellAt(1, 0);
+        assertSame(right, board.neighbor(center, 0));
+        assertSame(center, board.neighbor(right, 3));
+        assertSame(center, board.neighbor(new Hexagon(1, 0, -1), 3)); // detached
+        assertEquals("RED", board.neighbor(right, 3).getOwner());
+        assertNull(board.neighbor(board.cellAt(6, 0), 0)); // off the rim
+
+        List<Integer> ids = new ArrayList<>();
+        board.forEachNeighbor(center.getId(), ids::add);
+        List<Integer> expected = new ArrayList<>();
+        for (Hexagon n : board.neighborsOf(center)) expected.add(n.getId());
+        assertEquals(expected, ids);
+        assertEquals(6, board.distance(center.getId(), board.cellAt(-6, 0).getId()));
+    }
+
+    /**
+     * Tests that the neighbor lists handed out by the board can't be modified.
+     */
+    @Test
+    void testNeighborsOfIsReadOnly() {
+        Board board = new Board();
+        Hexagon center = board.cellAt(0, 0);
+        assertEquals(6, board.neighborsOf(center).size());
+        assertThrows(UnsupportedOperationException.class, () -> board.neighborsOf(center).clear());
+    }
+
+    /**
+     * Tests that a board of side length n has 3n(n-1)+1 cells and that every
+     * cell can be found through the coordinate index.
+     */
+    @Test
+    void testConfigurableBoardSize() {
+        for (int size : new int[]{1, 2, 11, 25}) {
+            Board board = new Board(size);
+            assertEquals(3 * size * (size - 1) + 1, board.cellCount());
+            assertEquals(size, board.getSize());
+            for (Hexagon h : board.getHexagons()) {
+                assertSame(h, board.cellAt(h.q, h.r));
+            }
+        }
+        assertThrows(IllegalArgumentException.class, () -> new Board(0));
+    }
+
+    /**
+     * Tests that the layout of the standard board matches the original 750px
+     * canvas with 30px hexagons, and that a large board still fits its canvas.
+     */
+    @Test
+    void testLayoutDerivedFromBoardSize() {
+        Board board = new Board();
+        assertEquals(30, board.getLayout().getHexSize());
+        assertEquals(750, board.getLayout().getWidth());
+
+        Board large = new Board(50);
+        for (Hexagon h : large.getHexagons()) {
+            double x = large.getLayout().centerX(h.q, h.r);
+            double y = large.getLayout().centerY(h.q, h.r);
+            assertTrue(x > 0 && x < large.getLayout().getWidth());
+            assertTrue(y > 0 && y < large.getLayout().getHeight());
+        }
+    }
 }
@@ -390,4 +390,39 @@ public class ControllerTest {
 
         assertEquals(2, connectedGroup.size());
     }
-}
\ No newline at end of file
+
+    /**
+     * Tests that copy() reproduces the position and turn, that the copy plays
+     * on independently, and that copyFrom() brings it back in step.
+     */
+    @Test
+    void testCopyAndCopyFrom() {
+        c.handleMove(c.getBoard().cellAt(0, 0));   // RED
+        c.handleMove(c.getBoard().cellAt(1, 0));   // BLUE
+        Controller copy = c.copy();
+        assertEquals(c.getCurrentPlayer(), copy.getCurrentPlayer());
+        assertEquals("BLUE", copy.getBoard().cellAt(1, 0).getOwner());
+        assertEquals(new HashSet<>(ids(c)), new HashSet<>(ids(copy)));
+
+        copy.handleMove(copy.getBoard().cellAt(1, -1)); // RED captures BLUE's only cell and wins
+        assertTrue(copy.getGameOver());
+        assertFalse(c.getGameOver());
+        assertEquals("BLUE", c.getBoard().cellAt(1, 0).getOwner());
+
+        copy.copyFrom(c);
+        assertFalse(copy.getGameOver());
+        assertEquals("BLUE", copy.getBoard().cellAt(1, 0).getOwner());
+        assertNull(copy.getBoard().cellAt(1, -1).getOwner());
+        assertEquals(1, copy.getGroupSize(copy.getBoard().cellAt(1, 0)));
+        assertEquals(new HashSet<>(ids(c)), new HashSet<>(ids(copy)));
+    }
+
+    /**
+     * Helper listing the current player's valid move ids.
+     */
+    private ArrayList<Integer> ids(Controller game) {
+        ArrayList<Integer> list = new ArrayList<>();
+        for (Hexagon h : game.getValidMoves()) list.add(h.getId());
+        return list;
+    }
+}
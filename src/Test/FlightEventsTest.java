@@ -0,0 +1,100 @@
+package Test;
+
+import AI.AlphaBetaPlayer;
+import Controller.Controller;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+public class FlightEventsTest {
+
+    /** Records {@code body} with the HexOust events enabled and returns them by event name. */
+    private static Map<String, List<RecordedEvent>> record(Runnable body) throws IOException {
+        Path file = Files.createTempFile("hexoust", ".jfr");
+        try (Recording recording = new Recording()) {
+            for (String name : new String[]{"hexoust.Move", "hexoust.Capture", "hexoust.Pass", "hexoust.Search"}) {
+                recording.enable(name);
+            }
+            recording.start();
+            body.run();
+            recording.stop();
+            recording.dump(file);
+            Map<String, List<RecordedEvent>> events = new HashMap<>();
+            for (RecordedEvent event : RecordingFile.readAllEvents(file)) {
+                events.computeIfAbsent(event.getEventType().getName(), k -> new ArrayList<>()).add(event);
+            }
+            return events;
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    /**
+     * Tests that moves, a rejected move, a capture and a pass played through
+     * the controller are recorded with their cells, counts and players.
+     */
+    @Test
+    void testRulesEvents() throws IOException {
+        Controller c = new Controller();
+        int red = c.getBoard().idAt(0, 0);
+        int blue = c.getBoard().idAt(1, 0);
+        int capture = c.getBoard().idAt(1, -1);
+        Map<String, List<RecordedEvent>> events = record(() -> {
+            c.handleMove(c.getBoard().getHexagon(red));
+            c.handleMove(c.getBoard().getHexagon(blue));
+            assertThrows(IllegalArgumentException.class, () -> c.handleMove(c.getBoard().getHexagon(red)));
+            c.handleMove(c.getBoard().getHexagon(capture));
+            c.passTurn();
+        });
+
+        List<RecordedEvent> moves = events.get("hexoust.Move");
+        assertEquals(4, moves.size());
+        assertEquals(red, moves.get(0).getInt("cell"));
+        assertEquals("RED", moves.get(0).getString("player"));
+        assertTrue(moves.get(2).getBoolean("rejected"));
+        RecordedEvent win = moves.get(3);
+        assertEquals(capture, win.getInt("cell"));
+        assertEquals(1, win.getInt("captured"));
+        assertEquals(2, win.getInt("groupSize"));
+        assertTrue(win.getBoolean("turnKept"));
+        assertTrue(win.getBoolean("win"));
+
+        RecordedEvent taken = events.get("hexoust.Capture").get(0);
+        assertEquals(capture, taken.getInt("cell"));
+        assertEquals(1, taken.getInt("captured"));
+        assertEquals(1, taken.getInt("groups"));
+        assertEquals(1, taken.getInt("largestGroup"));
+        assertEquals("RED", events.get("hexoust.Pass").get(0).getString("player"));
+    }
+
+    /**
+     * Tests that an AI search is recorded with its policy, move and work.
+     */
+    @Test
+    void testSearchEvent() throws IOException {
+        Controller c = new Controller(4);
+        AlphaBetaPlayer player = new AlphaBetaPlayer(2, 0);
+        int[] move = new int[1];
+        long[] nodes = new long[1];
+        Map<String, List<RecordedEvent>> events = record(() -> {
+            move[0] = player.search(c).move;
+            nodes[0] = player.search(c).work;
+        });
+
+        List<RecordedEvent> searches = events.get("hexoust.Search");
+        assertEquals(2, searches.size());
+        RecordedEvent search = searches.get(1);
+        assertEquals("alphabeta", search.getString("policy"));
+        assertEquals("RED", search.getString("player"));
+        assertEquals(move[0], search.getInt("cell"));
+        assertEquals(nodes[0], search.getLong("work"));
+        assertEquals(2, search.getInt("depth"));
+        assertFalse(search.getDuration().isNegative());
+    }
+}
@@ -0,0 +1,146 @@
+package Test;
+
+import AI.MovePolicy;
+import Archive.GameReader;
+import Archive.GameWriter;
+import Controller.Controller;
+import Model.BitBoard;
+import Simulation.GameResult;
+import Simulation.SelfPlay;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+public class GameArchiveTest {
+
+    /**
+     * Helper that records {@code games} seeded random games in a new archive
+     * and returns their plies, with the winner appended to each.
+     */
+    private List<int[]> writeGames(Path path, int size, int games) throws IOException {
+        List<int[]> recorded = new ArrayList<>();
+        MovePolicy random = MovePolicy.named("random");
+        int maxPlies = 50 * (3 * size * (size - 1) + 1);
+        int[] plies = new int[maxPlies];
+        try (GameWriter writer = new GameWriter(path, size)) {
+            for (int i = 0; i < games; i++) {
+                GameResult result = SelfPlay.playGame(size, random, random, new Random(i), maxPlies, plies);
+                int count = result.moves + result.passes;
+                writer.writeGame(plies, count, result.winner);
+                int[] game = Arrays.copyOf(plies, count + 1);
+                game[count] = result.winner;
+                recorded.add(game);
+            }
+            assertEquals(games, writer.gameCount());
+        }
+        return recorded;
+    }
+
+    /**
+     * Tests that games read back by index and by scan are the games written,
+     * and that replaying them reaches the recorded result.
+     */
+    @Test
+    void testRoundTrip() throws IOException {
+        Path path = Files.createTempFile("games", ".hxga");
+        try {
+            List<int[]> recorded = writeGames(path, 7, 200);
+            try (GameReader reader = new GameReader(path)) {
+                assertEquals(7, reader.getBoardSize());
+                assertEquals(GameWriter.RULES_VERSION, reader.getRulesVersion());
+                assertEquals(200, reader.gameCount());
+                for (int i = recorded.size() - 1; i >= 0; i--) { // random access, any order
+                    int[] game = recorded.get(i);
+                    int count = game.length - 1;
+                    assertArrayEquals(Arrays.copyOf(game, count), reader.getMoves(i));
+                    assertEquals(count, reader.getPlies(i));
+                    assertEquals(game[count], reader.getWinner(i));
+
+                    Controller replayed = reader.replay(i);
+                    int winner = replayed.getGameOver() ? BitBoard.playerIndex(replayed.getCurrentPlayer()) : BitBoard.NONE;
+                    assertEquals(game[count], winner);
+                }
+                int[] seen = {0};
+                reader.scan((index, plies, count, winner) -> {
+                    int[] game = recorded.get((int) index);
+                    assertEquals(seen[0]++, index);
+                    assertArrayEquals(Arrays.copyOf(game, game.length - 1), Arrays.copyOf(plies, count));
+                    assertEquals(game[game.length - 1], winner);
+                });
+                assertEquals(200, seen[0]);
+            }
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    /**
+     * Tests reading through small mapping windows, so that games and varints
+     * straddle window boundaries, on a board large enough for two-byte plies.
+     */
+    @Test
+    void testGamesAcrossMappingWindows() throws IOException {
+        Path path = Files.createTempFile("games", ".hxga");
+        try {
+            List<int[]> recorded = writeGames(path, 12, 30);
+            try (GameReader reader = new GameReader(path, 6)) {
+                for (int i = 0; i < recorded.size(); i++) {
+                    int[] game = recorded.get(i);
+                    assertArrayEquals(Arrays.copyOf(game, game.length - 1), reader.getMoves(i));
+                }
+                List<Integer> counts = new ArrayList<>();
+                reader.scan((index, plies, count, winner) -> counts.add(count));
+                for (int i = 0; i < recorded.size(); i++) {
+                    assertEquals(recorded.get(i).length - 1, (int) counts.get(i));
+                }
+            }
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    /**
+     * Tests that passes and unfinished games are stored, and that a ply off
+     * the board is refused.
+     */
+    @Test
+    void testPassesUnfinishedAndInvalidPlies() throws IOException {
+        Path path = Files.createTempFile("games", ".hxga");
+        try {
+            try (GameWriter writer = new GameWriter(path, 7)) {
+                writer.writeGame(new int[]{63, Controller.PASS, 0}, 3, BitBoard.NONE);
+                writer.writeGame(new int[0], 0, BitBoard.NONE);
+                assertThrows(IllegalArgumentException.class, () -> writer.writeGame(new int[]{127}, 1, BitBoard.RED));
+            }
+            try (GameReader reader = new GameReader(path)) {
+                assertEquals(2, reader.gameCount());
+                assertArrayEquals(new int[]{63, Controller.PASS, 0}, reader.getMoves(0));
+                assertEquals(BitBoard.NONE, reader.getWinner(0));
+                assertEquals(0, reader.getPlies(1));
+                assertThrows(IndexOutOfBoundsException.class, () -> reader.getMoves(2));
+            }
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    /**
+     * Tests that a file without an index (eg; a writer that was never
+     * closed) is rejected.
+     */
+    @Test
+    void testRejectsArchiveWithoutIndex() throws IOException {
+        Path path = Files.createTempFile("games", ".hxga");
+        try {
+            Files.write(path, new byte[]{'H', 'X', 'G', 'A', 1, 1, 0, 7, 0, 0, 0, 0, 0, 0, 0, 0, 3, 1, 2});
+            assertThrows(IOException.class, () -> new GameReader(path));
+            Files.write(path, new byte[40]);
+            assertThrows(IOException.class, () -> new GameReader(path));
+        } finally {
+            Files.delete(path);
+        }
+    }
+}
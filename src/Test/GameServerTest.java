@@ -0,0 +1,131 @@
+package Test;
+
+import Controller.Controller;
+import Server.GameServer;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class GameServerTest {
+
+    /** A blocking line client for one session. */
+    private static final class Client implements AutoCloseable {
+        final Socket socket;
+        final BufferedReader in;
+        final PrintWriter out;
+
+        Client(GameServer server) throws IOException {
+            socket = new Socket(InetAddress.getLoopbackAddress(), ((InetSocketAddress) server.getLocalAddress()).getPort());
+            in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+            out = new PrintWriter(socket.getOutputStream(), true, StandardCharsets.US_ASCII);
+        }
+
+        String send(String line) throws IOException {
+            out.println(line);
+            return in.readLine();
+        }
+
+        @Override
+        public void close() throws IOException {
+            socket.close();
+        }
+    }
+
+    private static GameServer startServer() throws IOException {
+        GameServer server = new GameServer(2, 16);
+        server.start(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+        return server;
+    }
+
+    /**
+     * Tests that a game played over the protocol follows the same rules as a
+     * local Controller, and that bad requests get an error reply.
+     */
+    @Test
+    void testProtocolMatchesController() throws IOException {
+        try (GameServer server = startServer(); Client client = new Client(server)) {
+            String id = client.send("NEW").substring(3);
+            assertEquals(1, server.gameCount());
+            assertEquals("OK RED PLAYING 0 0", client.send("STATE " + id));
+
+            Controller local = new Controller();
+            int[] ids = new int[local.getBoard().cellCount()];
+            int count = local.getValidMoveIds(ids);
+            String[] moves = client.send("MOVES " + id).split(" ");
+            assertEquals(count, Integer.parseInt(moves[1]));
+
+            int cell = ids[count / 2];
+            local.makeMove(cell);
+            assertEquals("OK " + local.getCurrentPlayer() + " PLAYING", client.send("MOVE " + id + " " + cell));
+            assertEquals("OK " + local.getCurrentPlayer() + " PLAYING 1 0", client.send("STATE " + id));
+
+            assertEquals("OK -1 -1 " + (local.isValidMove(ids[0]) ? 0 : -1),
+                    client.send("CHECK " + id + " " + cell + " 999 " + ids[0]));
+            assertEquals("ERR Invalid Cell Placement -> 999", client.send("MOVE " + id + " 999"));
+            assertTrue(client.send("MOVE " + id + " " + cell).startsWith("ERR Invalid Cell Placement"));
+            assertEquals("ERR Can't pass with valid moves available", client.send("PASS " + id));
+            assertEquals("ERR No such game -> 42", client.send("STATE 42"));
+            assertEquals("ERR Unknown command -> JUMP", client.send("JUMP " + id));
+            assertTrue(client.send("MOVE " + id).startsWith("ERR Malformed request"));
+            assertTrue(client.send("NEW 0").startsWith("ERR Invalid board size"));
+
+            assertEquals("OK", client.send("END " + id));
+            assertEquals(0, server.gameCount());
+            assertEquals("OK", client.send("QUIT"));
+            assertNull(client.in.readLine());
+        }
+    }
+
+    /**
+     * Tests that games played concurrently from many sessions, two sessions
+     * per game taking turns, all reach a result.
+     */
+    @Test
+    void testConcurrentSessions() throws Exception {
+        int games = 8;
+        try (GameServer server = startServer()) {
+            ExecutorService pool = Executors.newFixedThreadPool(2 * games);
+            try {
+                List<Future<String>> results = new ArrayList<>();
+                for (int g = 0; g < games; g++) {
+                    String id;
+                    try (Client creator = new Client(server)) {
+                        id = creator.send("NEW 4").substring(3);
+                    }
+                    // both sessions play whoever is to move; a stale MOVES
+                    // list just earns an error reply and another try
+                    for (int s = 0; s < 2; s++) {
+                        results.add(pool.submit(() -> {
+                            try (Client client = new Client(server)) {
+                                while (true) {
+                                    String state = client.send("STATE " + id);
+                                    if (state.contains("WON")) return state;
+                                    String[] moves = client.send("MOVES " + id).split(" ");
+                                    client.send(moves[1].equals("0") ? "PASS " + id : "MOVE " + id + " " + moves[2]);
+                                }
+                            }
+                        }));
+                    }
+                }
+                for (Future<String> result : results) {
+                    assertTrue(result.get().matches("OK (RED|BLUE) WON \\d+ \\d+"));
+                }
+                assertEquals(games, server.gameCount());
+            } finally {
+                pool.shutdownNow();
+            }
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package Test;
+
+import Controller.Controller;
+import Controller.Position;
+import Model.BitBoard;
+import Model.Hexagon;
+import View.GameWorker;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import javax.swing.SwingUtilities;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class GameWorkerTest {
+
+    /** A controller whose first move waits for a gate, so a burst can queue up behind it. */
+    private static final class GatedController extends Controller {
+        final CountDownLatch gate = new CountDownLatch(1);
+        final List<Integer> played = Collections.synchronizedList(new ArrayList<>());
+        final AtomicInteger snapshots = new AtomicInteger();
+
+        @Override
+        public void handleMove(Hexagon hex) {
+            try {
+                gate.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            played.add(hex.getId());
+            super.handleMove(hex);
+        }
+
+        @Override
+        public Position snapshot() {
+            snapshots.incrementAndGet();
+            return super.snapshot();
+        }
+    }
+
+    /**
+     * Tests that a burst of clicks is applied in order and that only the
+     * position after the last one is evaluated and reaches the view.
+     */
+    @Test
+    void testBurstPublishesLastFrameOnly() throws Exception {
+        GatedController c = new GatedController();
+        List<GameWorker.Frame> frames = Collections.synchronizedList(new ArrayList<>());
+        List<String> errors = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch shown = new CountDownLatch(1);
+        GameWorker worker = new GameWorker(c, frame -> {
+            frames.add(frame);
+            shown.countDown();
+        }, errors::add);
+
+        // Far apart cells: each move is a plain placement and colours alternate
+        int[] burst = {c.getBoard().idAt(-3, 0), c.getBoard().idAt(3, 0), c.getBoard().idAt(0, -3),
+                c.getBoard().idAt(0, 3), c.getBoard().idAt(-3, 3)};
+        for (int id : burst) {
+            worker.play(id);
+        }
+        c.gate.countDown();
+        assertTrue(shown.await(10, TimeUnit.SECONDS));
+        SwingUtilities.invokeAndWait(() -> { }); // drain anything else queued for the view
+
+        assertEquals(List.of(burst[0], burst[1], burst[2], burst[3], burst[4]), c.played);
+        assertTrue(errors.isEmpty());
+        assertEquals(1, c.snapshots.get()); // stale positions were never evaluated
+        assertEquals(1, frames.size());
+        Position last = frames.get(0).position;
+        for (int i = 0; i < burst.length; i++) {
+            assertEquals(i % 2 == 0 ? BitBoard.RED : BitBoard.BLUE, last.getOwner(burst[i]));
+        }
+        assertEquals("BLUE", last.getCurrentPlayer());
+        int[] moves = last.validMoves();
+        assertEquals(moves.length, bitCount(frames.get(0).validMoves));
+    }
+
+    private static int bitCount(long[] words) {
+        int count = 0;
+        for (long word : words) count += Long.bitCount(word);
+        return count;
+    }
+}
@@ -0,0 +1,109 @@
+package Test;
+
+import Controller.Controller;
+import Model.Board;
+import Model.GroupTracker;
+import Model.Hexagon;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.*;
+
+public class GroupTrackerTest {
+
+    /**
+     * Tests that placing a hexagon between two groups of the same owner
+     * merges them, and the merged size is available from any member.
+     */
+    @Test
+    void testPlacementMergesGroups() {
+        Board board = new Board();
+        GroupTracker groups = board.getGroups();
+        board.cellAt(-1, 0).setOwner("RED");
+        board.cellAt(1, 0).setOwner("RED");
+        assertEquals(1, groups.groupSize(board.idAt(-1, 0)));
+
+        board.cellAt(0, 0).setOwner("RED");
+        assertEquals(3, groups.groupSize(board.idAt(-1, 0)));
+        assertEquals(3, groups.groupSize(board.idAt(1, 0)));
+        assertTrue(groups.sameGroup(board.idAt(-1, 0), board.idAt(1, 0)));
+    }
+
+    /**
+     * Tests that removing the middle hexagon of a line splits the group
+     * into two groups with the right sizes.
+     */
+    @Test
+    void testRemovalSplitsGroup() {
+        Board board = new Board();
+        GroupTracker groups = board.getGroups();
+        for (int q = -2; q <= 2; q++) {
+            board.cellAt(q, 0).setOwner("BLUE");
+        }
+        assertEquals(5, groups.groupSize(board.idAt(0, 0)));
+
+        board.cellAt(0, 0).setOwner(null);
+        assertEquals(0, groups.groupSize(board.idAt(0, 0)));
+        assertEquals(2, groups.groupSize(board.idAt(-2, 0)));
+        assertEquals(2, groups.groupSize(board.idAt(2, 0)));
+        assertFalse(groups.sameGroup(board.idAt(-1, 0), board.idAt(1, 0)));
+    }
+
+    /**
+     * Tests that clearing a whole group at once empties every cell
+     * and leaves neighboring groups untouched.
+     */
+    @Test
+    void testClearOwnersRemovesWholeGroup() {
+        Board board = new Board();
+        List<Hexagon> blue = Arrays.asList(board.cellAt(0, 0), board.cellAt(1, 0));
+        for (Hexagon h : blue) h.setOwner("BLUE");
+        board.cellAt(-1, 0).setOwner("RED");
+
+        board.clearOwners(blue);
+        for (Hexagon h : blue) {
+            assertNull(h.getOwner());
+            assertEquals(0, board.getGroups().groupSize(h.getId()));
+        }
+        assertEquals(1, board.getGroups().groupSize(board.idAt(-1, 0)));
+    }
+
+    /**
+     * Tests the tracker against a flood fill after many random ownership
+     * changes, including removals that split groups.
+     */
+    @Test
+    void testSizesMatchFloodFillAfterRandomChanges() {
+        Controller c = new Controller();
+        Board board = c.getBoard();
+        Random rnd = new Random(43);
+        String[] owners = {"RED", "BLUE", null};
+
+        for (int step = 0; step < 2000; step++) {
+            Hexagon h = board.getHexagon(rnd.nextInt(board.cellCount()));
+            h.setOwner(owners[rnd.nextInt(3)]);
+        }
+        for (Hexagon h : board.getHexagons()) {
+            int expected = h.getOwner() == null ? 0 : c.getConnectedGroup(h, h.getOwner()).size();
+            assertEquals(expected, board.getGroups().groupSize(h.getId()), "at " + h);
+        }
+    }
+
+    /**
+     * Tests that the controller reports group sizes from the tracker
+     * after a capture has removed the captured group.
+     */
+    @Test
+    void testControllerGroupSizeAfterCapture() {
+        Controller c = new Controller();
+        Hexagon h1 = c.getBoard().getHexagons().get(0); // q:-6, r:0, s:6
+        Hexagon h2 = c.getBoard().getHexagons().get(1); // q:-6, r:1, s:5
+        Hexagon h3 = c.getBoard().getHexagons().get(7); // q:-5, r:-1, s:6
+
+        c.handleMove(h1);
+        c.handleMove(h2);
+        c.handleMove(h3); // captures h2
+
+        assertEquals(2, c.getGroupSize(h1));
+        assertEquals(0, c.getGroupSize(h2));
+    }
+}
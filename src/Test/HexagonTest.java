@@ -116,6 +116,20 @@ public class HexagonTest {
         assertEquals(5, h1.distance(h2));
     }
 
+    /**
+     * Tests that the coordinate form of distance agrees with the hexagon form,
+     * including for a hexagon and itself.
+     */
+    @Test
+    void testStaticDistanceMatchesHexagonDistance() {
+        Hexagon h1 = new Hexagon(4, 2, -6);
+        Hexagon h2 = new Hexagon(2, -1, -1);
+
+        assertEquals(h1.distance(h2), Hexagon.distance(4, 2, 2, -1));
+        assertEquals(h2.distance(h1), Hexagon.distance(2, -1, 4, 2));
+        assertEquals(0, Hexagon.distance(3, -3, 3, -3));
+    }
+
     // All directions 0-5 tested
 
     /**
@@ -0,0 +1,111 @@
+package Test;
+
+import Controller.Controller;
+import Controller.UndoRecord;
+import Model.BitBoard;
+import Model.Hexagon;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.*;
+
+public class MakeUnmakeTest {
+    private Controller c;
+
+    @BeforeEach
+    void setUp() {
+        c = new Controller();
+    }
+
+    /**
+     * Helper capturing everything a move can change: owners, group sizes,
+     * player to move, game over, hash and valid moves.
+     */
+    private List<Object> snapshot(Controller game) {
+        List<Object> state = new ArrayList<>();
+        for (Hexagon h : game.getBoard().getHexagons()) {
+            state.add(h.getOwner());
+            state.add(game.getGroupSize(h));
+        }
+        state.add(game.getCurrentPlayer());
+        state.add(game.getGameOver());
+        state.add(game.getHash());
+        for (Hexagon h : game.getValidMoves()) {
+            state.add(h.getId());
+        }
+        return state;
+    }
+
+    /**
+     * Tests that makeMove() agrees with handleMove() move for move and that
+     * unmakeMove() restores the exact position, during random games.
+     */
+    @Test
+    void testMakeMatchesHandleMoveAndUnmakeRestores() {
+        Random rnd = new Random(17);
+        for (int game = 0; game < 20; game++) {
+            c = new Controller();
+            Controller reference = new Controller();
+            for (int ply = 0; ply < 300 && !c.getGameOver(); ply++) {
+                List<Hexagon> moves = c.getValidMoves();
+                int move = moves.isEmpty() ? Controller.PASS : moves.get(rnd.nextInt(moves.size())).getId();
+
+                List<Object> before = snapshot(c);
+                UndoRecord undo = c.makeMove(move);
+                List<Object> after = snapshot(c);
+                c.unmakeMove(undo);
+                assertEquals(before, snapshot(c));
+
+                c.makeMove(move, undo);
+                assertEquals(after, snapshot(c));
+                reference.handleMove(move == Controller.PASS ? reference.getBoard().getHexagon(0)
+                        : reference.getBoard().getHexagon(move));
+                assertEquals(snapshot(reference), after);
+            }
+        }
+    }
+
+    /**
+     * Tests that a capture is recorded and undone, and that a winning capture
+     * keeps the winner to move until it is taken back.
+     */
+    @Test
+    void testUndoWinningCapture() {
+        c.makeMove(c.getBoard().idAt(0, 0));   // RED
+        c.makeMove(c.getBoard().idAt(1, 0));   // BLUE
+        UndoRecord undo = c.makeMove(c.getBoard().idAt(1, -1)); // RED captures and wins
+
+        assertEquals(1, undo.getCapturedCount());
+        assertEquals(c.getBoard().idAt(1, 0), undo.getCaptured(0));
+        assertTrue(c.getGameOver());
+        assertEquals("RED", c.getCurrentPlayer());
+        assertEquals(0, c.getBoard().getBitBoard().count(BitBoard.BLUE));
+
+        c.unmakeMove(undo);
+        assertFalse(c.getGameOver());
+        assertEquals("RED", c.getCurrentPlayer());
+        assertEquals("BLUE", c.getBoard().cellAt(1, 0).getOwner());
+        assertNull(c.getBoard().cellAt(1, -1).getOwner());
+    }
+
+    /**
+     * Tests that invalid moves, passing with moves available and moving after
+     * the game is over are rejected.
+     */
+    @Test
+    void testInvalidMovesRejected() {
+        int center = c.getBoard().idAt(0, 0);
+        c.makeMove(center);
+        assertThrows(IllegalArgumentException.class, () -> c.makeMove(center));      // owned
+        assertThrows(IllegalArgumentException.class, () -> c.makeMove(Controller.PASS));
+        assertThrows(IllegalArgumentException.class, () -> c.makeMove(c.getBoard().cellCount()));
+
+        Controller tiny = new Controller(1);
+        tiny.makeMove(0);
+        UndoRecord pass = tiny.makeMove(Controller.PASS); // BLUE has nowhere to play
+        assertTrue(pass.isPass());
+        assertEquals("RED", tiny.getCurrentPlayer());
+        tiny.unmakeMove(pass);
+        assertEquals("BLUE", tiny.getCurrentPlayer());
+    }
+}
@@ -0,0 +1,95 @@
+package Test;
+
+import AI.MctsPlayer;
+import AI.SearchResult;
+import Controller.Controller;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MctsPlayerTest {
+    private Controller c;
+
+    @BeforeEach
+    void setUp() {
+        c = new Controller();
+    }
+
+    /**
+     * Tests that the search finds an immediate win: any RED placement next to
+     * its cell at 0,0 forms a group touching BLUE's only cell at 1,0 and
+     * captures it.
+     */
+    @Test
+    void testFindsWinningCapture() {
+        c.getBoard().cellAt(0, 0).setOwner("RED");
+        c.getBoard().cellAt(1, 0).setOwner("BLUE");
+
+        SearchResult result = new MctsPlayer(1, 2000, 0).search(c, 1);
+        assertTrue(result.value > 0.9);
+        c.handleMove(c.getBoard().getHexagon(result.move));
+        assertTrue(c.getGameOver());
+        assertEquals("RED", c.getCurrentPlayer());
+    }
+
+    /**
+     * Tests that a player with no valid move gets a pass, as in handleMove():
+     * on a one-cell board BLUE has nowhere to play after RED.
+     */
+    @Test
+    void testPassWhenNoValidMoves() {
+        Controller tiny = new Controller(1);
+        tiny.handleMove(tiny.getBoard().getHexagon(0));
+        assertEquals(MctsPlayer.PASS, new MctsPlayer(1, 50, 0).search(tiny, 1).move);
+    }
+
+    /**
+     * Tests that searching leaves the game untouched and that a playout budget
+     * with a fixed seed always gives the same move.
+     */
+    @Test
+    void testSearchIsReproducibleAndSideEffectFree() {
+        c.handleMove(c.getBoard().cellAt(0, 0));
+        SearchResult first = new MctsPlayer(1, 300, 0).search(c, 9);
+        SearchResult second = new MctsPlayer(1, 300, 0).search(c, 9);
+
+        assertEquals(first.move, second.move);
+        assertEquals(300, first.work);
+        assertEquals("BLUE", c.getCurrentPlayer());
+        assertEquals(1, c.getBoard().getBitBoard().count(0));
+        assertTrue(c.isValidMove(c.getBoard().getHexagon(first.move)));
+    }
+
+    /**
+     * Tests that root-parallel search spends the whole budget across threads
+     * and returns a valid move.
+     */
+    @Test
+    void testParallelSearch() {
+        SearchResult result = new MctsPlayer(3, 300, 0).search(c, 2);
+        assertEquals(300, result.work);
+        assertTrue(c.isValidMove(c.getBoard().getHexagon(result.move)));
+    }
+
+    /**
+     * Tests that parallel searches by many copies of a player leave no
+     * search threads behind once they return.
+     */
+    @Test
+    void testNoThreadsLeftAfterSearch() throws InterruptedException {
+        MctsPlayer player = new MctsPlayer(3, 60, 0);
+        for (int i = 0; i < 5; i++) {
+            ((MctsPlayer) player.copy()).search(c, i);
+        }
+        long deadline = System.currentTimeMillis() + 5000;
+        while (mctsThreads() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(0, mctsThreads());
+    }
+
+    private static long mctsThreads() {
+        return Thread.getAllStackTraces().keySet().stream()
+                .filter(t -> t.getName().equals("mcts") && t.isAlive()).count();
+    }
+}
@@ -0,0 +1,108 @@
+package Test;
+
+import Controller.Controller;
+import Controller.MoveBatch;
+import Controller.Position;
+import Controller.UndoRecord;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.*;
+
+public class MoveBatchTest {
+
+    /**
+     * Tests that a batch check of every cell, a pass and off‑board ids
+     * agrees with makeMove() on each candidate (legality, captured cells,
+     * turn and win) throughout random games, on a reused batch.
+     */
+    @Test
+    void testBatchMatchesMakeMove() {
+        Random rnd = new Random(29);
+        MoveBatch batch = new MoveBatch();
+        int captures = 0;
+        for (int game = 0; game < 12; game++) {
+            Controller c = new Controller(game % 2 == 0 ? 5 : 7);
+            int cells = c.getBoard().cellCount();
+            int[] candidates = new int[cells + 3];
+            for (int id = 0; id < cells; id++) {
+                candidates[id] = cells - 1 - id; // any order
+            }
+            candidates[cells] = Controller.PASS;
+            candidates[cells + 1] = cells;
+            candidates[cells + 2] = -7;
+            int[] moves = new int[cells];
+            int[] captured = new int[cells];
+
+            for (int ply = 0; ply < 400 && !c.getGameOver(); ply++) {
+                c.checkMoves(candidates, candidates.length, batch);
+                assertEquals(candidates.length, batch.size());
+                int legal = 0;
+                for (int i = 0; i < candidates.length; i++) {
+                    int cell = candidates[i];
+                    String player = c.getCurrentPlayer();
+                    UndoRecord undo;
+                    try {
+                        undo = c.makeMove(cell);
+                    } catch (IllegalArgumentException e) {
+                        assertFalse(batch.isLegal(i), "cell " + cell);
+                        assertEquals(MoveBatch.ILLEGAL, batch.getCapturedCount(i));
+                        continue;
+                    }
+                    legal++;
+                    assertTrue(batch.isLegal(i), "cell " + cell);
+                    assertEquals(undo.getCapturedCount(), batch.getCapturedCount(i));
+                    assertEquals(player.equals(c.getCurrentPlayer()), batch.keepsTurn(i));
+                    assertEquals(c.getGameOver(), batch.wins(i));
+                    Set<Integer> expected = new HashSet<>();
+                    for (int k = 0; k < undo.getCapturedCount(); k++) expected.add(undo.getCaptured(k));
+                    Set<Integer> actual = new HashSet<>();
+                    int n = batch.getCaptured(i, captured);
+                    for (int k = 0; k < n; k++) actual.add(captured[k]);
+                    assertEquals(expected, actual);
+                    captures += n > 0 ? 1 : 0;
+                    c.unmakeMove(undo);
+                }
+                assertEquals(legal, batch.legalCount());
+
+                int count = c.getValidMoveIds(moves);
+                c.makeMove(count == 0 ? Controller.PASS : moves[rnd.nextInt(count)]);
+            }
+            Position end = c.snapshot();
+            assertEquals(0, end.checkMoves(candidates, candidates.length, batch).legalCount());
+        }
+        assertTrue(captures > 0);
+    }
+
+    /**
+     * Tests the varargs form on a small hand‑made position: a capture keeps
+     * the turn, reports its cells and here wins, a placement away from own
+     * cells passes the turn, and occupied cells and a pass while moves remain
+     * are refused.
+     */
+    @Test
+    void testCaptureKeepsTurn() {
+        Controller c = new Controller();
+        int red = c.getBoard().idAt(0, 0);
+        int blue = c.getBoard().idAt(1, 0);
+        c.makeMove(red);
+        c.makeMove(blue);
+
+        int capture = c.getBoard().idAt(1, -1); // joins RED's cell, touches BLUE's
+        MoveBatch batch = c.checkMoves(capture, c.getBoard().idAt(-3, 3), red, Controller.PASS);
+        assertTrue(batch.isLegal(0));
+        assertEquals(1, batch.getCapturedCount(0));
+        assertTrue(batch.keepsTurn(0));
+        assertTrue(batch.wins(0));
+        int[] cells = new int[1];
+        assertEquals(1, batch.getCaptured(0, cells));
+        assertEquals(blue, cells[0]);
+
+        assertTrue(batch.isLegal(1));
+        assertFalse(batch.keepsTurn(1));
+        assertEquals(0, batch.getCaptured(1, cells));
+        assertFalse(batch.isLegal(2)); // occupied
+        assertFalse(batch.isLegal(3)); // moves remain
+        assertEquals(2, batch.legalCount());
+        assertEquals(Controller.PASS, batch.getCell(3));
+    }
+}
@@ -0,0 +1,114 @@
+package Test;
+
+import AI.BookPlayer;
+import AI.MovePolicy;
+import Archive.BookBuilder;
+import Archive.OpeningBook;
+import Controller.Controller;
+import Model.BitBoard;
+import Model.Symmetry;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+public class OpeningBookTest {
+
+    /**
+     * Tests that probing returns the aggregated counts of the games added,
+     * and that a mirrored opening finds the same statistics, mirrored.
+     */
+    @Test
+    void testProbeFoldsSymmetricOpenings() throws IOException {
+        Controller c = new Controller();
+        Symmetry symmetry = new Symmetry(c.getBoard());
+        int first = c.getBoard().idAt(1, 0);
+        int reply = c.getBoard().idAt(-2, 1);
+
+        BookBuilder builder = new BookBuilder(7, 4);
+        builder.addGame(new int[]{first, reply}, 2, BitBoard.RED);
+        builder.addGame(new int[]{first, reply}, 2, BitBoard.BLUE);
+        // the same opening rotated and mirrored
+        builder.addGame(new int[]{symmetry.apply(7, first), symmetry.apply(7, reply)}, 2, BitBoard.BLUE);
+        builder.addGame(new int[]{first}, 1, BitBoard.NONE); // unfinished: ignored
+
+        Path path = Files.createTempFile("book", ".hxob");
+        try {
+            assertTrue(builder.write(path, 1) > 0);
+            try (OpeningBook book = new OpeningBook(path)) {
+                List<OpeningBook.Entry> start = book.probe(c);
+                assertEquals(1, start.size()); // all ring cells are equivalent on the empty board
+                assertEquals(3, start.get(0).games);
+                assertEquals(1, c.getBoard().distance(c.getBoard().idAt(0, 0), start.get(0).cell));
+
+                c.makeMove(first);
+                List<OpeningBook.Entry> entries = book.probe(c);
+                assertEquals(1, entries.size());
+                assertEquals(reply, entries.get(0).cell);
+                assertEquals(3, entries.get(0).games);
+                assertEquals(2, entries.get(0).wins); // BLUE won two of the three
+
+                Controller mirrored = new Controller();
+                mirrored.makeMove(symmetry.apply(4, first));
+                entries = book.probe(mirrored);
+                assertEquals(1, entries.size());
+                assertEquals(symmetry.apply(4, reply), entries.get(0).cell);
+
+                mirrored.makeMove(entries.get(0).cell);
+                assertTrue(book.probe(mirrored).isEmpty());
+                assertTrue(book.probe(new Controller(9)).isEmpty());
+            }
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    /**
+     * Tests that a book player follows the book while it can and falls back
+     * out of book, and that thin book moves are ignored.
+     */
+    @Test
+    void testBookPlayer() throws IOException {
+        Controller c = new Controller();
+        int first = c.getBoard().idAt(0, 0);
+        BookBuilder builder = new BookBuilder(7, 2);
+        for (int i = 0; i < 3; i++) {
+            builder.addGame(new int[]{first}, 1, BitBoard.RED);
+        }
+        Path path = Files.createTempFile("book", ".hxob");
+        try {
+            builder.write(path, 1);
+            try (OpeningBook book = new OpeningBook(path)) {
+                Random rnd = new Random(3);
+                MovePolicy player = new BookPlayer(book, 3, MovePolicy.named("random"));
+                assertEquals(first, player.chooseMove(c, rnd));
+                assertEquals("book+random", player.copy().name());
+
+                MovePolicy picky = new BookPlayer(book, 4, MovePolicy.named("random"));
+                c.makeMove(first);
+                assertTrue(c.isValidMove(player.chooseMove(c, rnd))); // out of book
+                assertTrue(c.isValidMove(picky.chooseMove(c, rnd)));
+            }
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    /**
+     * Tests that files that are not opening books are rejected.
+     */
+    @Test
+    void testRejectsOtherFiles() throws IOException {
+        Path path = Files.createTempFile("book", ".hxob");
+        try {
+            Files.write(path, new byte[]{'H', 'X', 'O', 'B', 1, 1, 0, 7, 0, 0, 0, 0, 0, 0, 0, 5});
+            assertThrows(IOException.class, () -> new OpeningBook(path));
+            Files.write(path, new byte[3]);
+            assertThrows(IOException.class, () -> new OpeningBook(path));
+        } finally {
+            Files.delete(path);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package Test;
+
+import Controller.BitRules;
+import Controller.Controller;
+import Controller.ParallelMoveGenerator;
+import Model.BitBoard;
+import Model.Board;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+public class ParallelMoveGeneratorTest {
+
+    /**
+     * Tests that splitting the work over a pool gives exactly the sequential
+     * answer for both players, for full scans and for partial re‑evaluation,
+     * throughout a random game on a large board.
+     */
+    @Test
+    void testMatchesSequential() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            Controller c = new Controller(30);
+            Board board = c.getBoard();
+            int words = board.getBitBoard().words();
+            ParallelMoveGenerator generator = new ParallelMoveGenerator(board, new BitRules(board), pool, 1);
+            BitRules reference = new BitRules(board);
+            Random rnd = new Random(11);
+            int[] moves = new int[board.cellCount()];
+            for (int ply = 0; ply < 1500 && !c.getGameOver(); ply++) {
+                int count = c.getValidMoveIds(moves);
+                c.makeMove(count == 0 ? Controller.PASS : moves[rnd.nextInt(count)]);
+                if (ply % 250 != 0) continue;
+
+                for (int player = BitBoard.RED; player <= BitBoard.BLUE; player++) {
+                    long[] expected = new long[words];
+                    long[] actual = new long[words];
+                    assertEquals(reference.validMoves(player, expected), generator.validMoves(player, actual));
+                    assertArrayEquals(expected, actual);
+
+                    // Every other word only: the rest of the output is left alone
+                    long[] some = new long[words];
+                    long[] partial = new long[words];
+                    for (int w = 0; w < words; w += 2) some[w] = -1L;
+                    for (int w = 1; w < words; w += 2) partial[w] = 0x5555L;
+                    generator.validMoves(player, some, partial);
+                    for (int w = 0; w < words; w++) {
+                        assertEquals(w % 2 == 0 ? expected[w] : 0x5555L, partial[w]);
+                    }
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Tests that a controller on a board above the threshold, evaluating on
+     * a pool of its own, answers the same valid moves as its own rules do
+     * sequentially.
+     */
+    @Test
+    void testLargeControllerAgrees() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            Controller c = new Controller(40, pool);
+            assertTrue(c.getBoard().cellCount() >= ParallelMoveGenerator.DEFAULT_THRESHOLD);
+            BitRules reference = new BitRules(c.getBoard());
+            long[] expected = new long[c.getBoard().getBitBoard().words()];
+            int[] moves = new int[c.getBoard().cellCount()];
+            Random rnd = new Random(4);
+            for (int ply = 0; ply < 300; ply++) {
+                int count = c.getValidMoveIds(moves);
+                assertEquals(reference.validMoves(BitBoard.playerIndex(c.getCurrentPlayer()), expected), count);
+                c.makeMove(count == 0 ? Controller.PASS : moves[rnd.nextInt(count)]);
+            }
+            // The full evaluation of the empty board ran on the given pool
+            assertTrue(pool.getPoolSize() > 0);
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
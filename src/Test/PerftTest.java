@@ -0,0 +1,96 @@
+package Test;
+
+import Benchmark.Perft;
+import Controller.Controller;
+import Controller.Position;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.Map;
+import java.util.Random;
+
+public class PerftTest {
+
+    /** Leaves of the tree below {@code position} walked through {@link Position#play(int)}. */
+    private static long reference(Position position, int depth) {
+        if (depth == 0) return 1;
+        if (position.getGameOver()) return 0;
+        long nodes = 0;
+        for (int move : position.hasValidMoves() ? position.validMoves() : new int[]{Controller.PASS}) {
+            nodes += reference(position.play(move), depth - 1);
+        }
+        return nodes;
+    }
+
+    /** A position {@code plies} random plies into a game on a base‑{@code size} board. */
+    private static Position randomPosition(int size, int plies, long seed) {
+        Controller c = new Controller(size);
+        Random rnd = new Random(seed);
+        int[] moves = new int[c.getBoard().cellCount()];
+        for (int i = 0; i < plies && !c.getGameOver(); i++) {
+            int count = c.getValidMoveIds(moves);
+            c.makeMove(count == 0 ? Controller.PASS : moves[rnd.nextInt(count)]);
+        }
+        return c.snapshot();
+    }
+
+    /**
+     * Tests that positions survive the text form, including the player to
+     * move and the game‑over flag, and that malformed text is rejected.
+     */
+    @Test
+    void testTextRoundTrip() {
+        assertEquals("7 RED 127", new Controller().snapshot().toText());
+        for (long seed = 0; seed < 20; seed++) {
+            Position position = randomPosition(5, 40, seed);
+            assertEquals(position, Position.parse(position.toText()));
+        }
+        Controller c = new Controller(2);
+        c.makeMove(c.getBoard().idAt(0, 0));
+        c.makeMove(c.getBoard().idAt(1, 0));
+        c.makeMove(c.getBoard().idAt(1, -1));
+        Position won = c.snapshot();
+        assertTrue(won.toText().endsWith(" over"));
+        assertEquals(won, Position.parse(won.toText()));
+
+        assertThrows(IllegalArgumentException.class, () -> Position.parse("7 RED 126"));
+        assertThrows(IllegalArgumentException.class, () -> Position.parse("7 GREEN 127"));
+        assertThrows(IllegalArgumentException.class, () -> Position.parse("7 RED 120x6"));
+    }
+
+    /**
+     * Tests the counts from the empty board, where no move captures: every
+     * cell for RED, then every other cell for BLUE.
+     */
+    @Test
+    void testOpeningCounts() {
+        Perft perft = new Perft();
+        Position start = new Controller().snapshot();
+        assertEquals(127, Perft.total(perft.divide(start, 1, 2)).nodes);
+        Perft.Counts two = Perft.total(perft.divide(start, 2, 2));
+        assertEquals(127 * 126, two.nodes);
+        assertEquals(0, two.captures);
+        assertEquals(1, perft.count(new Controller(), 0).nodes);
+    }
+
+    /**
+     * Tests that bulk counting, playing every leaf and an independent walk
+     * through {@link Position#play(int)} agree on mid‑game positions with
+     * captures, that divide sums to the total, and that the game is left in
+     * its position.
+     */
+    @Test
+    void testCountsAgree() {
+        for (long seed = 0; seed < 6; seed++) {
+            Position position = randomPosition(3, 4 + (int) seed * 3, seed);
+            Controller game = position.toController();
+            Perft.Counts bulk = new Perft(true).count(game, 3);
+            Perft.Counts played = new Perft(false).count(game, 3);
+            assertEquals(position, game.snapshot());
+            assertEquals(reference(position, 3), bulk.nodes);
+            assertEquals(bulk.toString(), played.toString());
+
+            Map<Integer, Perft.Counts> divide = new Perft().divide(position, 3, 3);
+            assertEquals(bulk.toString(), Perft.total(divide).toString());
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package Test;
+
+import Controller.Controller;
+import Controller.Position;
+import Model.BitBoard;
+import Model.Hexagon;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+public class PositionTest {
+
+    /**
+     * Helper that checks a position against a live game cell by cell.
+     */
+    private void assertSamePosition(Controller game, Position position) {
+        BitBoard bits = game.getBoard().getBitBoard();
+        for (int id = 0; id < bits.cellCount(); id++) {
+            assertEquals(bits.owner(id), position.getOwner(id), "cell " + id);
+        }
+        assertEquals(bits.count(BitBoard.RED), position.count(BitBoard.RED));
+        assertEquals(bits.count(BitBoard.BLUE), position.count(BitBoard.BLUE));
+        assertEquals(game.getCurrentPlayer(), position.getCurrentPlayer());
+        assertEquals(game.getGameOver(), position.getGameOver());
+        assertEquals(game.getHash(), position.getHash());
+    }
+
+    /**
+     * Tests that a snapshot keeps its position while the live game moves on.
+     */
+    @Test
+    void testSnapshotIsUnaffectedByLaterMoves() {
+        Controller c = new Controller();
+        c.handleMove(c.getBoard().cellAt(0, 0));
+        Controller copy = c.copy();
+        Position position = c.snapshot();
+
+        c.handleMove(c.getBoard().cellAt(3, 0));
+        c.handleMove(c.getBoard().cellAt(-3, 0));
+        c.getBoard().cellAt(0, 0).setOwner(null);
+
+        assertSamePosition(copy, position);
+        assertSamePosition(c, c.snapshot());
+    }
+
+    /**
+     * Tests that play() agrees with makeMove() on a live game during random
+     * games, that parents are left unchanged, and that toController()
+     * rebuilds the same game.
+     */
+    @Test
+    void testPlayMatchesMakeMove() {
+        Random rnd = new Random(11);
+        for (int game = 0; game < 20; game++) {
+            Controller c = new Controller();
+            Position position = c.snapshot();
+            for (int ply = 0; ply < 300 && !c.getGameOver(); ply++) {
+                int[] moves = position.validMoves();
+                assertEquals(c.hasValidMoves(), position.hasValidMoves());
+                int move = moves.length == 0 ? Controller.PASS : moves[rnd.nextInt(moves.length)];
+
+                Controller before = c.copy();
+                c.makeMove(move);
+                Position next = position.play(move);
+                assertSamePosition(before, position);
+                assertSamePosition(c, next);
+                assertEquals(c.snapshot(), next);
+                position = next;
+            }
+            Controller rebuilt = position.toController();
+            assertSamePosition(c, rebuilt.snapshot());
+            assertEquals(c.getValidMoves().size(), rebuilt.getValidMoves().size());
+        }
+    }
+
+    /**
+     * Tests that play() stays correct when one thread expands positions of
+     * two board sizes in turn.
+     */
+    @Test
+    void testPlayAlternatingSizes() {
+        Random rnd = new Random(5);
+        Controller[] games = {new Controller(3), new Controller(5)};
+        Position[] positions = {games[0].snapshot(), games[1].snapshot()};
+        for (int ply = 0; ply < 200; ply++) {
+            int i = ply % 2;
+            if (games[i].getGameOver()) continue;
+            int[] moves = positions[i].validMoves();
+            int move = moves.length == 0 ? Controller.PASS : moves[rnd.nextInt(moves.length)];
+            games[i].makeMove(move);
+            positions[i] = positions[i].play(move);
+            assertSamePosition(games[i], positions[i]);
+        }
+    }
+
+    /**
+     * Tests that invalid moves are rejected without changing the position.
+     */
+    @Test
+    void testPlayRejectsInvalidMoves() {
+        Controller c = new Controller();
+        c.handleMove(c.getBoard().cellAt(0, 0));
+        Position position = c.snapshot();
+        int owned = c.getBoard().idAt(0, 0);
+
+        assertThrows(IllegalArgumentException.class, () -> position.play(owned));
+        assertThrows(IllegalArgumentException.class, () -> position.play(Controller.PASS));
+        assertSamePosition(c, position);
+
+        Position next = position.play(c.getBoard().idAt(3, 0)).play(c.getBoard().idAt(-3, 0));
+        c.handleMove(c.getBoard().cellAt(3, 0));
+        c.handleMove(c.getBoard().cellAt(-3, 0));
+        assertSamePosition(c, next);
+    }
+
+    /**
+     * Tests that positions can be expanded by other threads while the game
+     * they came from keeps being played.
+     */
+    @Test
+    void testSnapshotsAreReadableFromOtherThreads() throws Exception {
+        Controller c = new Controller(12);
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            List<Integer> expected = new ArrayList<>();
+            Random rnd = new Random(5);
+            for (int ply = 0; ply < 100 && !c.getGameOver(); ply++) {
+                Position position = c.snapshot();
+                expected.add(c.getValidMoves().size());
+                results.add(pool.submit(() -> {
+                    int[] moves = position.validMoves();
+                    for (int move : moves) {
+                        position.play(move);
+                    }
+                    return moves.length;
+                }));
+                List<Hexagon> moves = c.getValidMoves();
+                c.handleMove(moves.isEmpty() ? c.getBoard().getHexagon(0) : moves.get(rnd.nextInt(moves.size())));
+            }
+            for (int i = 0; i < results.size(); i++) {
+                assertEquals(expected.get(i), results.get(i).get());
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package Test;
+
+import Controller.Controller;
+import Controller.RulesMetrics;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Random;
+
+public class RulesMetricsTest {
+
+    /**
+     * Tests that histogram percentiles land within 1/8 above the true value
+     * and never above the maximum seen.
+     */
+    @Test
+    void testHistogramPercentiles() {
+        RulesMetrics.Histogram histogram = new RulesMetrics.Histogram();
+        assertEquals(0, histogram.percentile(0.5));
+        for (long v = 1; v <= 100_000; v++) {
+            histogram.record(v);
+        }
+        assertEquals(100_000, histogram.count());
+        assertEquals(100_000, histogram.max());
+        for (double p : new double[]{0.01, 0.5, 0.9, 0.99}) {
+            long exact = (long) (p * 100_000);
+            long reported = histogram.percentile(p);
+            assertTrue(reported >= exact && reported <= exact + exact / 8, p + " -> " + reported);
+        }
+        assertEquals(100_000, histogram.percentile(1.0));
+        histogram.reset();
+        assertEquals(0, histogram.count());
+    }
+
+    /**
+     * Tests that the off switch holds: with metrics off there is no instance
+     * and no MBean, and with them on the MBean is registered and counts
+     * handleMove calls.
+     */
+    @Test
+    void testOffSwitch() throws Exception {
+        assertEquals(RulesMetrics.ENABLED, RulesMetrics.INSTANCE != null);
+        ObjectName name = new ObjectName(RulesMetrics.OBJECT_NAME);
+        assertEquals(RulesMetrics.ENABLED, ManagementFactory.getPlatformMBeanServer().isRegistered(name));
+
+        Controller c = new Controller();
+        Random rnd = new Random(5);
+        int[] moves = new int[c.getBoard().cellCount()];
+        long before = RulesMetrics.ENABLED ? RulesMetrics.INSTANCE.getHandleMoveCount() : 0;
+        for (int i = 0; i < 20 && !c.getGameOver(); i++) {
+            int count = c.getValidMoveIds(moves);
+            c.handleMove(c.getBoard().getHexagon(count == 0 ? 0 : moves[rnd.nextInt(count)]));
+        }
+        if (RulesMetrics.ENABLED) {
+            assertEquals(20, RulesMetrics.INSTANCE.getHandleMoveCount() - before);
+            assertEquals(RulesMetrics.INSTANCE.getHandleMoveCount(),
+                    ManagementFactory.getPlatformMBeanServer().getAttribute(name, "HandleMoveCount"));
+            assertTrue(RulesMetrics.INSTANCE.getFloodFillCells() > 0);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package Test;
+
+import AI.GreedyCapturePolicy;
+import AI.MovePolicy;
+import AI.RandomPolicy;
+import Controller.Controller;
+import Model.BitBoard;
+import Model.Hexagon;
+import Simulation.GameResult;
+import Simulation.SelfPlay;
+import Simulation.SelfPlayStats;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.*;
+
+public class SelfPlayTest {
+
+    /**
+     * Tests that a batch gives the same totals on one thread and on several,
+     * since every game's seed depends only on its index.
+     */
+    @Test
+    void testBatchIsDeterministicAcrossThreadCounts() {
+        SelfPlay selfPlay = new SelfPlay(5, new RandomPolicy(), new GreedyCapturePolicy());
+        SelfPlayStats one = selfPlay.run(200, 1, 42);
+        SelfPlayStats four = selfPlay.run(200, 4, 42);
+
+        assertEquals(200, one.getGames());
+        assertEquals(one.getMoves(), four.getMoves());
+        assertEquals(one.getPasses(), four.getPasses());
+        assertEquals(one.getWins(BitBoard.RED), four.getWins(BitBoard.RED));
+        assertEquals(one.getWins(BitBoard.BLUE), four.getWins(BitBoard.BLUE));
+        assertEquals(200, one.getWins(BitBoard.RED) + one.getWins(BitBoard.BLUE) + one.getUnfinished());
+    }
+
+    /**
+     * Tests that a finished game ends with the winner to move and the loser
+     * owning no cells.
+     */
+    @Test
+    void testGameEndsWithWinner() {
+        GameResult result = SelfPlay.playGame(7, new RandomPolicy(), new RandomPolicy(), new Random(3), 100_000);
+        assertNotEquals(BitBoard.NONE, result.winner);
+        assertTrue(result.moves > 0);
+    }
+
+    /**
+     * Tests that the random policy only ever returns valid moves.
+     */
+    @Test
+    void testRandomPolicyPlaysValidMoves() {
+        Controller c = new Controller();
+        MovePolicy policy = new RandomPolicy();
+        Random rnd = new Random(5);
+        for (int ply = 0; ply < 60 && !c.getGameOver(); ply++) {
+            if (!c.hasValidMoves()) {
+                c.passTurn();
+                continue;
+            }
+            Hexagon move = c.getBoard().getHexagon(policy.chooseMove(c, rnd));
+            assertTrue(c.isValidMove(move));
+            c.handleMove(move);
+        }
+    }
+
+    /**
+     * Tests that the greedy policy takes the move capturing the most cells:
+     * RED at 1,0 would take the single BLUE cell, RED at -1,0 takes two.
+     */
+    @Test
+    void testGreedyPolicyPrefersLargestCapture() {
+        Controller c = new Controller();
+        c.getBoard().cellAt(2, 0).setOwner("RED");
+        c.getBoard().cellAt(3, 0).setOwner("RED");
+        c.getBoard().cellAt(2, -1).setOwner("BLUE");
+        c.getBoard().cellAt(-2, 0).setOwner("RED");
+        c.getBoard().cellAt(-3, 0).setOwner("RED");
+        c.getBoard().cellAt(-2, 1).setOwner("BLUE");
+        c.getBoard().cellAt(-1, 1).setOwner("BLUE");
+
+        int cell = new GreedyCapturePolicy().chooseMove(c, new Random(1));
+        assertEquals(c.getBoard().idAt(-1, 0), cell);
+    }
+
+    /**
+     * Tests that an unknown policy name is rejected.
+     */
+    @Test
+    void testUnknownPolicyName() {
+        assertEquals("greedy", MovePolicy.named("greedy").name());
+        assertThrows(IllegalArgumentException.class, () -> MovePolicy.named("minimax"));
+    }
+}
@@ -0,0 +1,66 @@
+package Test;
+
+import Model.Board;
+import Model.Symmetry;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.*;
+
+public class SymmetryTest {
+
+    /**
+     * Tests that every symmetry is a permutation of the cells that keeps
+     * neighbors next to each other, and that the 12 are distinct.
+     */
+    @Test
+    void testSymmetriesArePermutationsPreservingAdjacency() {
+        Board board = new Board(7);
+        Symmetry symmetry = new Symmetry(board);
+        Set<List<Integer>> distinct = new HashSet<>();
+        for (int sym = 0; sym < Symmetry.COUNT; sym++) {
+            Set<Integer> images = new HashSet<>();
+            List<Integer> perm = new ArrayList<>();
+            for (int id = 0; id < board.cellCount(); id++) {
+                int image = symmetry.apply(sym, id);
+                images.add(image);
+                perm.add(image);
+                assertEquals(id, symmetry.invert(sym, image));
+                assertEquals(board.distance(board.idAt(0, 0), id), board.distance(board.idAt(0, 0), image));
+                for (int dir = 0; dir < 6; dir++) {
+                    int n = board.neighborId(id, dir);
+                    if (n >= 0) {
+                        assertEquals(1, board.distance(image, symmetry.apply(sym, n)));
+                    }
+                }
+            }
+            assertEquals(board.cellCount(), images.size());
+            distinct.add(perm);
+        }
+        assertEquals(Symmetry.COUNT, distinct.size());
+    }
+
+    /**
+     * Tests that the identity hash is the board's hash and that all images
+     * of a position have the same canonical hash.
+     */
+    @Test
+    void testCanonicalHashIsSharedByAllImages() {
+        Board board = new Board(7);
+        Symmetry symmetry = new Symmetry(board);
+        board.cellAt(1, 0).setOwner("RED");
+        board.cellAt(2, -1).setOwner("RED");
+        board.cellAt(-3, 1).setOwner("BLUE");
+        assertEquals(board.getHash(), symmetry.hash(0, board.getBitBoard()));
+        long canonical = symmetry.hash(symmetry.canonical(board.getBitBoard()), board.getBitBoard());
+
+        for (int sym = 0; sym < Symmetry.COUNT; sym++) {
+            Board image = new Board(7);
+            for (int id = 0; id < board.cellCount(); id++) {
+                String owner = board.getHexagon(id).getOwner();
+                if (owner != null) image.getHexagon(symmetry.apply(sym, id)).setOwner(owner);
+            }
+            assertEquals(symmetry.hash(sym, board.getBitBoard()), image.getHash());
+            assertEquals(canonical, symmetry.hash(symmetry.canonical(image.getBitBoard()), image.getBitBoard()));
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package Test;
+
+import AI.MovePolicy;
+import Controller.Controller;
+import Model.BitBoard;
+import Model.Hexagon;
+import Simulation.Standings;
+import Simulation.Tournament;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.List;
+import java.util.Random;
+
+public class TournamentTest {
+
+    /**
+     * Tests the Elo fit on two players where one scores 75%: a gap of
+     * 400·log10(3) ≈ 191 Elo, and an interval matching the binomial one.
+     */
+    @Test
+    void testTwoPlayerElo() {
+        Standings standings = new Standings(new String[]{"strong", "weak"});
+        for (int i = 0; i < 1000; i++) {
+            int red = i % 2, blue = 1 - red;
+            boolean strongWins = i % 4 != 3;
+            standings.add(red, blue, strongWins == (red == 0) ? BitBoard.RED : BitBoard.BLUE);
+        }
+        double[] elo = standings.ratings();
+        assertEquals(0, elo[0] + elo[1], 1e-6);
+        assertEquals(400 * Math.log10(3), elo[0] - elo[1], 1.0);
+        // Half the rating gap's binomial standard error, at 95%
+        double se = 0.5 * Math.sqrt(1 / (1001 * 0.75 * 0.25)) * 400 / Math.log(10);
+        assertEquals(1.96 * se, standings.errors()[0], 0.5);
+        assertEquals(0.75, standings.getScore(0), 1e-9);
+        // The weak player only wins its games as RED
+        assertEquals(750, standings.getWins(BitBoard.RED));
+        assertEquals(250, standings.getWins(BitBoard.BLUE));
+    }
+
+    /**
+     * Helper policy with state that lasts a whole game: its n‑th move of a
+     * game is the n‑th valid move, counted cyclically.
+     */
+    private static final class CountingPolicy implements MovePolicy {
+        private int played;
+
+        @Override
+        public int chooseMove(Controller game, Random rnd) {
+            List<Hexagon> moves = game.getValidMoves();
+            return moves.get(played++ % moves.size()).getId();
+        }
+
+        @Override
+        public String name() {
+            return "counting";
+        }
+
+        @Override
+        public MovePolicy copy() {
+            return new CountingPolicy();
+        }
+
+        @Override
+        public void newGame() {
+            played = 0;
+        }
+    }
+
+    /**
+     * Tests that a tournament, including players with state, gives the same
+     * standings on one thread or several, that each player plays RED in
+     * half its games, and that the streamed results file rates the same.
+     */
+    @Test
+    void testDeterministicAndStreamed() throws IOException {
+        List<MovePolicy> players = List.of(MovePolicy.named("random"), MovePolicy.named("greedy"),
+                MovePolicy.named("random"), MovePolicy.named("alphabeta"), new CountingPolicy());
+        Tournament tournament = new Tournament(3, players);
+        assertArrayEquals(new String[]{"random", "greedy", "random#2", "alphabeta", "counting"},
+                tournament.getNames());
+
+        Standings one = tournament.run(40, 1, 7, null);
+        StringWriter results = new StringWriter();
+        Standings three = tournament.run(40, 3, 7, results);
+        assertEquals(400, three.getGames());
+        assertEquals(one.toString(), three.toString());
+
+        String[] lines = results.toString().split("\n");
+        assertEquals(401, lines.length);
+        int greedyRed = 0;
+        for (int i = 1; i < lines.length; i++) {
+            if (lines[i].split(",")[1].equals("greedy")) greedyRed++;
+        }
+        assertEquals(80, greedyRed);
+
+        Standings replayed = Tournament.report(new BufferedReader(new StringReader(results + "17,gre")));
+        assertEquals(400, replayed.getGames());
+        assertArrayEquals(three.ratings(), sorted(replayed, three), 1e-6);
+    }
+
+    /** Ratings of {@code standings} in the player order of {@code order}. */
+    private static double[] sorted(Standings standings, Standings order) {
+        double[] ratings = standings.ratings();
+        double[] out = new double[ratings.length];
+        for (int i = 0; i < out.length; i++) {
+            for (int j = 0; j < out.length; j++) {
+                if (standings.getName(j).equals(order.getName(i))) out[i] = ratings[j];
+            }
+        }
+        return out;
+    }
+}
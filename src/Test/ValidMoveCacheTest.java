@@ -0,0 +1,93 @@
+package Test;
+
+import Controller.BitRules;
+import Controller.Controller;
+import Model.BitBoard;
+import Model.Hexagon;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.*;
+
+public class ValidMoveCacheTest {
+    private Controller c;
+
+    @BeforeEach
+    void setUp() {
+        c = new Controller();
+    }
+
+    /**
+     * Helper that computes the valid moves from scratch, bypassing the cache.
+     */
+    private Set<Hexagon> freshValidMoves() {
+        BitRules rules = new BitRules(c.getBoard());
+        long[] valid = new long[c.getBoard().getBitBoard().words()];
+        rules.validMoves(BitBoard.playerIndex(c.getCurrentPlayer()), valid);
+        Set<Hexagon> moves = new HashSet<>();
+        for (Hexagon h : c.getBoard().getHexagons()) {
+            int id = h.getId();
+            if ((valid[id >>> 6] & (1L << id)) != 0) moves.add(h);
+        }
+        return moves;
+    }
+
+    /**
+     * Tests the cached valid moves against a full recomputation after
+     * every move of many random games, for both players.
+     */
+    @Test
+    void testCacheMatchesFullScanDuringRandomGames() {
+        Random rnd = new Random(7);
+        for (int game = 0; game < 20; game++) {
+            c = new Controller();
+            for (int ply = 0; ply < 200 && !c.getGameOver(); ply++) {
+                assertEquals(freshValidMoves(), new HashSet<>(c.getValidMoves()));
+                c.switchTurn();
+                assertEquals(freshValidMoves(), new HashSet<>(c.getValidMoves()));
+                c.switchTurn();
+
+                List<Hexagon> moves = c.getValidMoves();
+                if (moves.isEmpty()) {
+                    c.switchTurn();
+                } else {
+                    c.handleMove(moves.get(rnd.nextInt(moves.size())));
+                }
+            }
+        }
+    }
+
+    /**
+     * Tests that ownership set directly on a hexagon, outside handleMove(),
+     * also invalidates the cache.
+     */
+    @Test
+    void testDirectSetOwnerInvalidatesCache() {
+        Hexagon corner = c.getBoard().getHexagons().get(0);
+        Hexagon next = c.getBoard().getHexagons().get(1);
+        assertTrue(c.isValidMove(next));
+
+        corner.setOwner("RED"); // RED now owns a neighbor of next, without any capture
+        assertFalse(c.isValidMove(next));
+        assertFalse(c.getValidMoveView().contains(next));
+        assertEquals(freshValidMoves(), new HashSet<>(c.getValidMoves()));
+    }
+
+    /**
+     * Tests that the valid move view follows the current player and can't be modified.
+     */
+    @Test
+    void testValidMoveViewIsLiveAndReadOnly() {
+        Set<Hexagon> view = c.getValidMoveView();
+        Hexagon center = c.getBoard().cellAt(0, 0);
+        Hexagon right = c.getBoard().cellAt(1, 0);
+        assertEquals(127, view.size());
+
+        c.handleMove(center); // RED, turn passes to BLUE
+        assertEquals(126, view.size());
+        assertTrue(view.contains(right)); // BLUE may play next to RED
+
+        assertThrows(UnsupportedOperationException.class, () -> view.add(center));
+        assertThrows(UnsupportedOperationException.class, () -> view.clear());
+    }
+}
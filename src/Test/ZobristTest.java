@@ -0,0 +1,104 @@
+package Test;
+
+import Controller.Controller;
+import Model.BitBoard;
+import Model.Board;
+import Model.Hexagon;
+import Model.Zobrist;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.*;
+
+public class ZobristTest {
+    private Controller c;
+
+    @BeforeEach
+    void setUp() {
+        c = new Controller();
+    }
+
+    /**
+     * Tests the incrementally kept hash against a full recomputation after
+     * every move of random games, captures included.
+     */
+    @Test
+    void testIncrementalHashMatchesRecomputation() {
+        Random rnd = new Random(21);
+        for (int game = 0; game < 20; game++) {
+            c = new Controller();
+            assertEquals(0, c.getBoard().getHash());
+            for (int ply = 0; ply < 300 && !c.getGameOver(); ply++) {
+                List<Hexagon> moves = c.getValidMoves();
+                if (moves.isEmpty()) {
+                    c.passTurn();
+                } else {
+                    c.handleMove(moves.get(rnd.nextInt(moves.size())));
+                }
+                assertEquals(Zobrist.hashOf(c.getBoard().getBitBoard()), c.getBoard().getHash());
+            }
+        }
+    }
+
+    /**
+     * Tests that the same position reached by different move orders has the
+     * same hash, and that clearing a cell restores the previous hash.
+     */
+    @Test
+    void testTranspositionsShareHash() {
+        Controller other = new Controller();
+        c.handleMove(c.getBoard().cellAt(0, 0));     // RED
+        c.handleMove(c.getBoard().cellAt(3, 0));     // BLUE
+        c.handleMove(c.getBoard().cellAt(-3, 0));    // RED
+        other.handleMove(other.getBoard().cellAt(-3, 0));
+        other.handleMove(other.getBoard().cellAt(3, 0));
+        other.handleMove(other.getBoard().cellAt(0, 0));
+        assertEquals(c.getHash(), other.getHash());
+
+        long before = c.getBoard().getHash();
+        Hexagon cell = c.getBoard().cellAt(2, -2);
+        cell.setOwner("BLUE");
+        assertNotEquals(before, c.getBoard().getHash());
+        cell.setOwner(null);
+        assertEquals(before, c.getBoard().getHash());
+    }
+
+    /**
+     * Tests that the side to move is part of the controller's hash only.
+     */
+    @Test
+    void testSideToMoveFoldedIntoControllerHash() {
+        long red = c.getHash();
+        c.switchTurn();
+        assertEquals(red ^ Zobrist.BLUE_TO_MOVE, c.getHash());
+        assertEquals(0, c.getBoard().getHash());
+    }
+
+    /**
+     * Tests that no cell key on a large board equals the side-to-move key or
+     * another cell key, so a move can never leave the hash unchanged.
+     */
+    @Test
+    void testKeysAreDistinct() {
+        Board board = new Board(40);
+        Set<Long> keys = new HashSet<>();
+        keys.add(Zobrist.BLUE_TO_MOVE);
+        for (int id = 0; id < board.cellCount(); id++) {
+            assertTrue(keys.add(Zobrist.cellKey(BitBoard.RED, id)));
+            assertTrue(keys.add(Zobrist.cellKey(BitBoard.BLUE, id)));
+        }
+    }
+
+    /**
+     * Tests that copying a game copies its hash.
+     */
+    @Test
+    void testCopyKeepsHash() {
+        c.handleMove(c.getBoard().cellAt(0, 0));
+        c.handleMove(c.getBoard().cellAt(1, 0));
+        Controller copy = new Controller();
+        copy.handleMove(copy.getBoard().cellAt(-5, 2));
+        copy.copyFrom(c);
+        assertEquals(c.getHash(), copy.getHash());
+    }
+}
@@ -0,0 +1,180 @@
+package View;
+
+import Controller.Position;
+import Model.BitBoard;
+import Model.Board;
+import Model.Hexagon;
+import Model.Layout;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.geom.Path2D;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+
+/**
+ * Board panel of the {@link GUI}, drawn from a back‑buffer.
+ *
+ * <p>Each cell's polygon is computed once from the board's {@link Layout}
+ * and the whole board is drawn once into an image. {@link #show} then
+ * compares the new position with what the buffer holds and redraws only the
+ * cells whose colour changed (a new owner, or a valid‑move highlight gained
+ * or lost), asking Swing to repaint just their bounds. The result is pixel
+ * for pixel the same as drawing the whole board again. {@code paintComponent}
+ * only copies the buffer, so a click costs a handful of polygons instead of
+ * the whole board.</p>
+ *
+ * <p>Used from the event dispatch thread only. It needs no screen, so
+ * tests drive {@link #show} directly and read back {@link #getRedrawn()}
+ * and {@link #getBuffer()}.</p>
+ */
+public class BoardCanvas extends JPanel {
+    private static final long serialVersionUID = 1L;
+    private static final Color[] COLOURS = {Color.GRAY, Color.LIGHT_GRAY, Color.RED, Color.BLUE};
+    private static final int EMPTY = 0, VALID = 1, RED = 2, BLUE = 3;
+
+    private final Board board;
+    private final Polygon[] cells;
+    private final Rectangle[] bounds;
+    private final byte[] drawn; // colour index of each cell in the buffer
+    private final int[] dirty;
+    private final boolean[] touched;
+    private int redrawn; // dirty[0..redrawn) changed colour in the last show
+    private BufferedImage buffer;
+
+    public BoardCanvas(Board board) {
+        this.board = board;
+        Layout layout = board.getLayout();
+        int cellCount = board.cellCount();
+        this.cells = new Polygon[cellCount];
+        this.bounds = new Rectangle[cellCount];
+        this.drawn = new byte[cellCount];
+        Arrays.fill(drawn, (byte) -1); // nothing drawn yet
+        this.dirty = new int[cellCount];
+        this.touched = new boolean[cellCount];
+
+        // Vertex offsets at 0, 60, ... 300 degrees, shared by every cell
+        double[] dx = new double[6], dy = new double[6];
+        for (int i = 0; i < 6; i++) {
+            double a = Math.toRadians(60 * i);
+            dx[i] = layout.getHexSize() * Math.cos(a);
+            dy[i] = layout.getHexSize() * Math.sin(a);
+        }
+        for (Hexagon hex : board.getHexagons()) {
+            int x = (int) layout.centerX(hex.q, hex.r);
+            int y = (int) layout.centerY(hex.q, hex.r);
+            int[] xp = new int[6], yp = new int[6];
+            for (int i = 0; i < 6; i++) {
+                xp[i] = (int) (x + dx[i]);
+                yp[i] = (int) (y + dy[i]);
+            }
+            cells[hex.getId()] = new Polygon(xp, yp, 6);
+            Rectangle r = cells[hex.getId()].getBounds();
+            r.grow(1, 1); // room for the anti-aliased outline
+            bounds[hex.getId()] = r;
+        }
+        setPreferredSize(new Dimension(layout.getWidth(), layout.getHeight()));
+    }
+
+    /**
+     * Brings the buffer up to date with {@code position}, highlighting the
+     * empty cells set in {@code validMoves} (one bit per cell id, as
+     * {@link BitBoard} words), and repaints the cells that changed.
+     */
+    public void show(Position position, long[] validMoves) {
+        if (buffer == null) {
+            buffer = newBuffer();
+        }
+        int changed = 0;
+        for (int id = 0; id < cells.length; id++) {
+            int colour = colour(position.getOwner(id), (validMoves[id >>> 6] & (1L << id)) != 0);
+            if (colour != drawn[id]) {
+                drawn[id] = (byte) colour;
+                dirty[changed++] = id;
+            }
+        }
+        redrawn = changed;
+        if (changed == 0) return;
+
+        Graphics2D g = buffer.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            redraw(g, changed);
+        } finally {
+            g.dispose();
+        }
+    }
+
+    /** @return ids of the cells whose colour changed in the last {@link #show}, ascending. */
+    public int[] getRedrawn() {
+        return Arrays.copyOf(dirty, redrawn);
+    }
+
+    /** @return the back‑buffer, or null before the first {@link #show}. Do not modify. */
+    public BufferedImage getBuffer() {
+        return buffer;
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        super.paintComponent(g);
+        if (buffer != null) {
+            g.drawImage(buffer, 0, 0, null);
+        }
+    }
+
+    private BufferedImage newBuffer() {
+        Layout layout = board.getLayout();
+        BufferedImage image = new BufferedImage(layout.getWidth(), layout.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = image.createGraphics();
+        g.setColor(getBackground());
+        g.fillRect(0, 0, image.getWidth(), image.getHeight());
+        g.dispose();
+        return image;
+    }
+
+    /**
+     * Redraws the bounds of the cells {@code dirty[0..count)} from scratch:
+     * background, then every cell reaching into them (those cells and their
+     * neighbours) in id order, clipped to the bounds. Anti‑aliased edges then
+     * come out exactly as in a full redraw instead of darkening with each
+     * overdraw, and no cell is drawn twice.
+     */
+    private void redraw(Graphics2D g, int count) {
+        Path2D.Float area = new Path2D.Float(Path2D.WIND_NON_ZERO);
+        Arrays.fill(touched, false);
+        for (int i = 0; i < count; i++) {
+            int id = dirty[i];
+            area.append(bounds[id], false);
+            repaint(bounds[id]);
+            touched[id] = true;
+            for (int dir = 0; dir < 6; dir++) {
+                int n = board.neighborId(id, dir);
+                if (n >= 0) touched[n] = true;
+            }
+        }
+        g.setClip(area);
+        g.setColor(getBackground());
+        g.fill(area);
+        for (int id = 0; id < cells.length; id++) {
+            if (touched[id]) drawCell(g, id);
+        }
+    }
+
+    private void drawCell(Graphics2D g, int id) {
+        g.setColor(COLOURS[drawn[id]]);
+        g.fillPolygon(cells[id]);
+        outline(g, id);
+    }
+
+    private void outline(Graphics2D g, int id) {
+        g.setColor(Color.BLACK);
+        g.drawPolygon(cells[id]);
+    }
+
+    private static int colour(int owner, boolean valid) {
+        if (owner == BitBoard.RED) return RED;
+        if (owner == BitBoard.BLUE) return BLUE;
+        return valid ? VALID : EMPTY;
+    }
+}
@@ -2,12 +2,12 @@ package View;
 
 import Model.Board;
 import Model.Hexagon;
+import Model.Layout;
 import Controller.Controller;
 
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.*;
-import java.util.List;
 
 /**
  * Swing front‑end for the <i>HexOust</i> game.
@@ -20,6 +20,15 @@ import java.util.List;
  *   <li>Forwarding mouse clicks to the {@link Controller} and repainting in
  *       response to game‑state changes.</li>
  * </ul>
+ * Drawing itself is done by {@link BoardCanvas}, which keeps the board in
+ * a back‑buffer and redraws only the cells a move changed.
+ *
+ * <h6>Threading</h6>
+ * Moves and valid‑move evaluation run on a {@link GameWorker} thread, never
+ * on the event dispatch thread; the EDT only hit‑tests clicks and draws the
+ * snapshots the worker publishes. The controller's hooks below may
+ * therefore be called from the worker, and hand their Swing updates to the
+ * EDT.
  *
  * <h6>Collaboration</h6>
  * A two‑way link is established at start‑up:
@@ -36,21 +45,25 @@ public class GUI extends JFrame {
 
     // View & helpers
     private final TextDisplay textDisplay = new TextDisplay();
-    private JPanel boardPanel;
+    private BoardCanvas boardPanel;
     private MouseAdapter boardMouseListener;
+    private final GameWorker worker;
 
-    // Board layout
-    private static final int HEX_SIZE = 30;
-    private static final int WIDTH = 750;
-    private static final int HEIGHT = 750;
+    // Board layout, derived from the board size
+    private final Layout layout;
+    private final int width;
+    private final int height;
 
 
     public GUI(Controller controller) {
         this.controller = controller;
         this.board = controller.getBoard();
+        this.layout = board.getLayout();
+        this.width = layout.getWidth();
+        this.height = layout.getHeight();
 
         setTitle("HexOust Game");
-        setSize(WIDTH, HEIGHT);
+        setSize(width, height);
         setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
         setLocationRelativeTo(null);
         setLayout(new BorderLayout());
@@ -59,100 +72,62 @@ public class GUI extends JFrame {
         add(textDisplay, BorderLayout.NORTH);
         add(textDisplay.getErrorLabel(), BorderLayout.SOUTH);
 
-        boardPanel = new JPanel() {
-            @Override protected void paintComponent(Graphics g) {
-                super.paintComponent(g);
-                drawBoard(g);
-            }
-        };
-        boardPanel.setPreferredSize(new Dimension(WIDTH, HEIGHT));
+        boardPanel = new BoardCanvas(board);
         add(boardPanel, BorderLayout.CENTER);
+        worker = new GameWorker(controller,
+                frame -> boardPanel.show(frame.position, frame.validMoves),
+                textDisplay::showError);
 
-        // Handle mouse clicks
+        // Handle mouse clicks; hit-testing only reads the fixed board layout
         boardMouseListener = new MouseAdapter() {
             @Override public void mouseClicked(MouseEvent pos) {
                 Hexagon clicked = board.getHexagonAt(pos.getX(), pos.getY());
                 if (clicked == null) return;
-
-                try {
-                    controller.handleMove(clicked);
-                } catch (IllegalArgumentException ex) {
-                    textDisplay.showError("Invalid Cell Placement -> " + clicked);
-                }
-                repaint();
+                worker.play(clicked.getId());
             }
         };
         boardPanel.addMouseListener(boardMouseListener);
 
         updateTurnIndicator();
+        worker.refresh();
     }
 
-    // Hooks used by controller:
-    public void showPassTurnMessage(String txt) { textDisplay.showError(txt); }
+    // Hooks used by controller, from any thread:
+    public void showPassTurnMessage(String txt) { onEdt(() -> textDisplay.showError(txt)); }
 
     public void updateTurnIndicator() {
         Player current = Player.valueOf(controller.getCurrentPlayer());
-        if (controller.getGameOver()) {
-            textDisplay.showWinner(current);
-            boardPanel.removeMouseListener(boardMouseListener);
-        } else {
-            textDisplay.showTurn(current);
-        }
-    }
-
-    // Board rendering:
-    private void drawBoard(Graphics g) {
-        Graphics2D g2 = (Graphics2D) g;
-        g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-
-        int cx = WIDTH / 2, cy = HEIGHT / 2;
-        List<Hexagon> valid = controller.getValidMoves();
-
-        for (Hexagon hex : board.getHexagons()) {
-            Point p = hexToPixel(hex, cx, cy);
-            drawHexagon(g2, p.x, p.y, hex, valid);
-        }
-    }
-
-    private Point hexToPixel(Hexagon h, int cx, int cy) {
-        double x = HEX_SIZE * (3.0 / 2 * h.q);
-        double y = HEX_SIZE * (Math.sqrt(3) * (h.r + h.q / 2.0));
-        return new Point((int) (cx + x), (int) (cy + y));
+        boolean gameOver = controller.getGameOver();
+        onEdt(() -> {
+            if (gameOver) {
+                textDisplay.showWinner(current);
+                boardPanel.removeMouseListener(boardMouseListener);
+            } else {
+                textDisplay.showTurn(current);
+            }
+        });
     }
 
-    private void drawHexagon(Graphics2D g, int x, int y,
-                             Hexagon hex, List<Hexagon> validMoves) {
-
-        int[] xp = new int[6];
-        int[] yp = new int[6];
-        for (int i = 0; i < 6; i++) {
-            double a = Math.toRadians(60 * i);
-            xp[i] = (int) (x + HEX_SIZE * Math.cos(a));
-            yp[i] = (int) (y + HEX_SIZE * Math.sin(a));
-        }
-
-        // Hex colors:
-        if (hex.getOwner() == null) {
-            g.setColor(validMoves.contains(hex) ? Color.LIGHT_GRAY : Color.GRAY);
-        } else if ("RED".equals(hex.getOwner())) {
-            g.setColor(Color.RED);
+    private static void onEdt(Runnable update) {
+        if (SwingUtilities.isEventDispatchThread()) {
+            update.run();
         } else {
-            g.setColor(Color.BLUE);
+            SwingUtilities.invokeLater(update);
         }
-
-        g.fillPolygon(xp, yp, 6);
-        g.setColor(Color.BLACK);
-        g.drawPolygon(xp, yp, 6);
     }
 
     // Bootstrap
     public void start() { setVisible(true); }
 
     public static void main(String[] args) {
-        Controller ctrl = new Controller();
-        GUI gui = new GUI(ctrl);
-        ctrl.setGUI(gui);
-        gui.start();
+        // Optional board size argument, eg; java View.GUI 11
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 7;
+        Controller ctrl = new Controller(size);
+        SwingUtilities.invokeLater(() -> {
+            GUI gui = new GUI(ctrl);
+            ctrl.setGUI(gui);
+            gui.start();
+        });
     }
 
     // Helper classes:
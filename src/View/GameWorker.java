@@ -0,0 +1,113 @@
+package View;
+
+import Controller.Controller;
+import Controller.Position;
+import Model.Hexagon;
+
+import javax.swing.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * Runs the {@link GUI}'s game on one background thread, off the Swing event
+ * dispatch thread.
+ *
+ * <p>The {@link Controller} is only touched by the worker: clicks are
+ * queued as moves, applied in order, and after each one the worker takes a
+ * {@link Position} snapshot and the valid moves and publishes them as a
+ * {@link Frame}. The EDT renders only the latest frame; frames published
+ * while a render is already queued replace each other.</p>
+ *
+ * <h6>Stale work</h6>
+ * Every move gets a sequence number. Once a move is applied the worker
+ * checks whether a newer move has been queued since; if so it skips the
+ * snapshot and valid‑move evaluation for the position that is about to be
+ * replaced, and re‑checks before publishing, so a burst of clicks costs one
+ * evaluation rather than one per click.
+ *
+ * <p>A single worker rather than a pool: moves must apply in order, and
+ * the controller is not thread safe.</p>
+ */
+public final class GameWorker {
+    /** A position and its valid moves (one bit per cell id), ready to draw. */
+    public static final class Frame {
+        public final Position position;
+        public final long[] validMoves;
+
+        Frame(Position position, long[] validMoves) {
+            this.position = position;
+            this.validMoves = validMoves;
+        }
+    }
+
+    private final Controller controller;
+    private final Consumer<Frame> view;
+    private final Consumer<String> errors;
+    private final ExecutorService executor;
+    private final AtomicLong submitted = new AtomicLong();
+    private final AtomicReference<Frame> latest = new AtomicReference<>();
+    private final AtomicBoolean renderQueued = new AtomicBoolean();
+    private final int[] ids;
+
+    /**
+     * @param view   receives each frame to draw, on the EDT.
+     * @param errors receives messages about rejected moves, on the EDT.
+     */
+    public GameWorker(Controller controller, Consumer<Frame> view, Consumer<String> errors) {
+        this.controller = controller;
+        this.view = view;
+        this.errors = errors;
+        this.ids = new int[controller.getBoard().cellCount()];
+        this.executor = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "game-worker");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /** Queues a move on cell {@code id} for whoever is to move when it runs. */
+    public void play(int id) {
+        long move = submitted.incrementAndGet();
+        executor.execute(() -> {
+            if (!controller.getGameOver()) { // clicks queued behind the winning move
+                Hexagon hex = controller.getBoard().getHexagon(id);
+                try {
+                    controller.handleMove(hex);
+                } catch (IllegalArgumentException ex) {
+                    String message = "Invalid Cell Placement -> " + hex;
+                    SwingUtilities.invokeLater(() -> errors.accept(message));
+                }
+            }
+            publish(move);
+        });
+    }
+
+    /** Queues a frame of the current position, eg; for the first paint. */
+    public void refresh() {
+        long move = submitted.get();
+        executor.execute(() -> publish(move));
+    }
+
+    private void publish(long move) {
+        if (move != submitted.get()) return; // a newer move is queued
+        Position position = controller.snapshot();
+        long[] valid = new long[(ids.length + 63) >>> 6];
+        int count = controller.getValidMoveIds(ids);
+        for (int i = 0; i < count; i++) {
+            valid[ids[i] >>> 6] |= 1L << ids[i];
+        }
+        if (move != submitted.get()) return;
+
+        latest.set(new Frame(position, valid));
+        if (renderQueued.compareAndSet(false, true)) {
+            SwingUtilities.invokeLater(() -> {
+                renderQueued.set(false);
+                view.accept(latest.get());
+            });
+        }
+    }
+}